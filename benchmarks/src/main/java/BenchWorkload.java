@@ -0,0 +1,60 @@
+import java.util.Random;
+
+import mazebench.Workload;
+
+/**
+ * Implementasi Workload di default package: satu PackedGrid + MazeEngine per
+ * state benchmark. Lihat mazebench.Workload untuk alasan jembatan ini.
+ */
+public final class BenchWorkload implements Workload {
+    private final PackedGrid grid;
+    private final MazeEngine engine;
+    private long seed;
+
+    public BenchWorkload(int cols, int rows, long seed) {
+        this.grid = new PackedGrid(cols, rows);
+        this.engine = new MazeEngine(grid, new Random(seed));
+        this.seed = seed;
+    }
+
+    @Override
+    public void generate(String algorithm) {
+        switch (algorithm) {
+            case "Prim's":
+                engine.initGrid();
+                engine.generatePrim(StepListener.NONE);
+                break;
+            case "Kruskal's":
+                engine.initGrid();
+                engine.generateKruskal(StepListener.NONE);
+                break;
+            case "FastPrim":
+                grid.clear();
+                FastMazeGenerator.prim(grid, seed++, StepListener.NONE);
+                break;
+            case "FastKruskal":
+                grid.clear();
+                FastMazeGenerator.kruskal(grid, seed++, StepListener.NONE);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown generator: " + algorithm);
+        }
+    }
+
+    @Override
+    public void generateTerrain() {
+        engine.generateTerrainOnly();
+    }
+
+    @Override
+    public void prepareMaze(String heuristic) {
+        engine.generate("FastPrim", seed, StepListener.NONE);
+        engine.setHeuristic(heuristic);
+        engine.prepare("A*"); // Cache heuristic dibangun sekali per maze, seperti di UI
+    }
+
+    @Override
+    public int solve(String solver) {
+        return engine.solve(solver, StepListener.NONE).cost;
+    }
+}
@@ -0,0 +1,43 @@
+package mazebench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Throughput generate struktur maze (tanpa terrain) per algoritma dan ukuran grid. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx6g"}) // Prim's/Kruskal's 4096x4096 memakai jutaan objek Wall
+public class GeneratorBenchmark {
+    @Param({"35x25", "256x256", "1024x1024", "4096x4096"})
+    public String size;
+
+    @Param({"Prim's", "Kruskal's", "FastPrim", "FastKruskal"})
+    public String algorithm;
+
+    private Workload workload;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        workload = Workload.create(size, 42);
+    }
+
+    @Benchmark
+    public void generate() {
+        workload.generate(algorithm);
+    }
+}
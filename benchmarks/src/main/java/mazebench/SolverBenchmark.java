@@ -0,0 +1,51 @@
+package mazebench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Throughput solve start -> exit pada maze FastPrim yang sama untuk semua solver.
+ * Solver lain ("Dial", "HeapA*", "BiA*", ...) dan heuristic lain bisa dipilih
+ * tanpa rebuild, misal: -p solver=Dial,HeapA* -p heuristic=Scaled,ALT
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx4g"})
+public class SolverBenchmark {
+    @Param({"35x25", "256x256", "1024x1024", "4096x4096"})
+    public String size;
+
+    @Param({"BFS", "DFS", "Dijkstra", "A*"})
+    public String solver;
+
+    @Param({"ALT"}) // Heuristic yang dipakai UI
+    public String heuristic;
+
+    private Workload workload;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        workload = Workload.create(size, 42);
+        workload.prepareMaze(heuristic);
+    }
+
+    @Benchmark
+    public int solve() {
+        return workload.solve(solver);
+    }
+}
@@ -0,0 +1,40 @@
+package mazebench;
+
+/**
+ * Operasi engine yang diukur benchmark.
+ *
+ * Engine berada di default package, sedangkan JMH menolak kelas benchmark di
+ * default package dan kode Java di package bernama tidak bisa meng-import
+ * default package. Jadi benchmark hanya mengenal interface ini; implementasinya
+ * (BenchWorkload, default package) dimuat sekali lewat reflection di @Setup,
+ * dan pemanggilan di dalam loop benchmark adalah panggilan interface biasa.
+ */
+public interface Workload {
+
+    /** Buat workload untuk grid berukuran "COLSxROWS", misal "35x25" atau "4096x4096". */
+    static Workload create(String size, long seed) {
+        int x = size.indexOf('x');
+        if (x < 0) throw new IllegalArgumentException("Size must look like COLSxROWS: " + size);
+        int cols = Integer.parseInt(size.substring(0, x));
+        int rows = Integer.parseInt(size.substring(x + 1));
+        try {
+            return (Workload) Class.forName("BenchWorkload")
+                    .getConstructor(int.class, int.class, long.class)
+                    .newInstance(cols, rows, seed);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot load BenchWorkload", e);
+        }
+    }
+
+    /** Generate struktur maze saja ("Prim's", "Kruskal's", "FastPrim", "FastKruskal") di grid yang dikosongkan. */
+    void generate(String algorithm);
+
+    /** Acak ulang terrain seluruh grid (MazeEngine.generateTerrainOnly). */
+    void generateTerrain();
+
+    /** Siapkan maze lengkap (struktur, terrain, start/exit) dan cache heuristic untuk benchmark solver. */
+    void prepareMaze(String heuristic);
+
+    /** Solve start -> exit, kembalikan cost jalur. */
+    int solve(String solver);
+}
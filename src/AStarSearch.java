@@ -0,0 +1,107 @@
+import java.util.Arrays;
+
+/**
+ * A* berbasis array untuk satu grid, dengan workspace yang dipakai ulang.
+ * Heuristic bisa diganti (lihat Heuristic); default-nya Heuristic.scaledManhattan.
+ *
+ * g dan parent disimpan di int[] per index sel, open set adalah IndexedMinHeap
+ * dengan decrease-key (tidak ada Node duplikat / entri basi). Reset antar
+ * query memakai stamp: g[i] hanya valid jika stamp[i] == query, jadi tidak
+ * perlu Arrays.fill O(n) setiap kali solve. Tidak ada alokasi per expansion.
+ *
+ * Satu instance tidak thread-safe; setiap thread harus punya AStarSearch sendiri.
+ */
+public class AStarSearch {
+    private final MazeGrid grid;
+    private final int[] g;
+    private final int[] parent;
+    private final int[] stamp;
+    private final IndexedMinHeap open;
+    private Heuristic heuristic;
+    private int query;
+    private long relaxations; // Counter query terakhir, untuk RunMetrics
+    private int peakFrontier;
+
+    public AStarSearch(MazeGrid grid) {
+        this(grid, Heuristic.scaledManhattan(grid));
+    }
+
+    public AStarSearch(MazeGrid grid, Heuristic heuristic) {
+        this.grid = grid;
+        this.heuristic = heuristic;
+        int n = grid.size();
+        this.g = new int[n];
+        this.parent = new int[n];
+        this.stamp = new int[n];
+        this.open = new IndexedMinHeap(n);
+    }
+
+    public void setHeuristic(Heuristic heuristic) {
+        this.heuristic = heuristic;
+    }
+
+    /** Tetangga yang dimasukkan / di-decrease-key di open set pada solve() terakhir. */
+    public long relaxations() {
+        return relaxations;
+    }
+
+    /** Ukuran maksimum open set pada solve() terakhir. */
+    public int peakFrontier() {
+        return peakFrontier;
+    }
+
+    public SolveResult solve(int from, int to, StepListener listener) {
+        nextQuery();
+        open.clear();
+        int explored = 0;
+        relaxations = 0;
+        peakFrontier = 1;
+
+        touch(from, 0, -1);
+        open.insert(from, heuristic.estimate(from, to));
+
+        while (!open.isEmpty()) {
+            Cancellation.check();
+            int current = open.pop();
+
+            explored++;
+            listener.onStep(StepListener.VISIT, current);
+
+            if (current == to) {
+                return SearchPaths.build("HeapA*", grid, parent, current, explored);
+            }
+
+            int gCurrent = g[current];
+            for (int dir = 0; dir < 4; dir++) {
+                if (!grid.isOpen(current, dir)) continue;
+                int neighbor = grid.neighbor(current, dir);
+                int tentativeG = gCurrent + grid.cost(neighbor);
+                if (stamp[neighbor] != query || tentativeG < g[neighbor]) {
+                    touch(neighbor, tentativeG, current);
+                    open.insertOrDecrease(neighbor, tentativeG + heuristic.estimate(neighbor, to));
+                    relaxations++;
+                }
+            }
+            if (open.size() > peakFrontier) peakFrontier = open.size();
+        }
+        return SolveResult.notFound("HeapA*", explored);
+    }
+
+    /** Cost terbaik yang ditemukan query terakhir untuk sel ini, atau -1 jika belum tercapai. */
+    public int gScore(int cell) {
+        return stamp[cell] == query ? g[cell] : -1;
+    }
+
+    private void touch(int cell, int gCost, int from) {
+        stamp[cell] = query;
+        g[cell] = gCost;
+        parent[cell] = from;
+    }
+
+    private void nextQuery() {
+        if (++query == 0) { // Overflow setelah 2^32 query: reset stamp sekali
+            Arrays.fill(stamp, 0);
+            query = 1;
+        }
+    }
+}
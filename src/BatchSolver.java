@@ -0,0 +1,70 @@
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Solve ribuan pasangan (start, exit) sekaligus pada satu maze.
+ *
+ * Grid disalin sekali menjadi PackedGrid (snapshot yang tidak pernah diubah),
+ * lalu query dibagi ke ForkJoinPool. Setiap thread worker memakai MazeEngine
+ * sendiri (lihat MazeEngine.forWorker), jadi state pencarian thread-confined dan
+ * tidak menyentuh Cell.visited / isWorking milik UI. Heuristic, graph koridor dan
+ * index LCA dibangun sekali di prototype lalu dibagi read-only ke semua worker,
+ * termasuk worker yang sudah dibuat oleh solveAll() sebelumnya.
+ */
+public class BatchSolver implements AutoCloseable {
+    private final MazeEngine prototype;
+    private final ForkJoinPool pool;
+    private final ThreadLocal<MazeEngine> workers;
+
+    public BatchSolver(MazeGrid grid, String heuristic) {
+        this(grid, heuristic, Runtime.getRuntime().availableProcessors());
+    }
+
+    public BatchSolver(MazeGrid grid, String heuristic, int parallelism) {
+        this.prototype = new MazeEngine(PackedGrid.copyOf(grid));
+        this.prototype.setHeuristic(heuristic);
+        this.pool = new ForkJoinPool(parallelism);
+        this.workers = ThreadLocal.withInitial(this::newWorker);
+    }
+
+    private synchronized MazeEngine newWorker() {
+        return prototype.forWorker(); // prototype.rand dipakai bersama saat membuat worker
+    }
+
+    public MazeGrid getSnapshot() {
+        return prototype.getGrid();
+    }
+
+    /**
+     * Solve semua pasangan starts[i] -> exits[i] secara paralel. Urutan hasil
+     * sama dengan urutan input. Tanpa animasi (StepListener.NONE).
+     */
+    public SolveResult[] solveAll(String solver, int[] starts, int[] exits) {
+        if (starts.length != exits.length) {
+            throw new IllegalArgumentException("starts and exits must have the same length");
+        }
+        synchronized (this) {
+            prototype.prepare(solver);
+        }
+        SolveResult[] results = new SolveResult[starts.length];
+        try {
+            pool.submit(() -> IntStream.range(0, starts.length).parallel().forEach(i -> {
+                MazeEngine worker = workers.get();
+                worker.shareCachesFrom(prototype); // Worker lama belum punya cache dari prepare() di atas
+                results[i] = worker.solve(solver, starts[i], exits[i], StepListener.NONE);
+            })).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Batch solve interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Batch solve failed", e.getCause());
+        }
+        return results;
+    }
+
+    @Override
+    public void close() {
+        pool.shutdown();
+    }
+}
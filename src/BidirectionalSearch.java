@@ -0,0 +1,218 @@
+import java.util.Arrays;
+
+/**
+ * BFS, Dijkstra dan A* dua arah: satu pencarian maju dari start, satu mundur
+ * dari exit, berhenti saat kedua frontier bertemu dengan kriteria yang benar.
+ *
+ * Cost dihitung saat memasuki sel, jadi graph mundur berbobot: dari sel v
+ * (dengan gB[v] = cost v ke exit) tetangga u mendapat gB[u] = cost(v) + gB[v].
+ *
+ * Kriteria berhenti (mu = cost jalur terbaik yang sudah ditemukan lewat sel temu):
+ * - BFS      : ekspansi per level; selesaikan level tempat frontier pertama bertemu.
+ * - Dijkstra : topForward + topBackward >= mu.
+ * - A*       : salah satu min-key frontier >= mu (pendekatan simetris, heuristic
+ *              harus konsisten: "Scaled", "ALT" atau "Zero").
+ *
+ * Workspace dipakai ulang antar query (reset dengan stamp); satu instance per thread.
+ */
+public class BidirectionalSearch {
+    private static final int INF = Integer.MAX_VALUE;
+
+    private final MazeGrid grid;
+    private final int[] gF, gB;
+    private final int[] parentF, parentB; // parentB[v] = sel berikutnya menuju exit
+    private final int[] stampF, stampB;
+    private final int[] queueF, queueB;   // Frontier BFS
+    private final IndexedMinHeap openF, openB;
+    private Heuristic heuristic = Heuristic.ZERO;
+    private int query;
+    private long relaxations; // Counter query terakhir (kedua sisi), untuk RunMetrics
+    private int peakFrontier;
+
+    public BidirectionalSearch(MazeGrid grid) {
+        this.grid = grid;
+        int n = grid.size();
+        gF = new int[n];
+        gB = new int[n];
+        parentF = new int[n];
+        parentB = new int[n];
+        stampF = new int[n];
+        stampB = new int[n];
+        queueF = new int[n];
+        queueB = new int[n];
+        openF = new IndexedMinHeap(n);
+        openB = new IndexedMinHeap(n);
+    }
+
+    public void setHeuristic(Heuristic heuristic) {
+        this.heuristic = heuristic;
+    }
+
+    /** Tetangga yang dimasukkan / diperbaiki di kedua frontier pada solve() terakhir. */
+    public long relaxations() {
+        return relaxations;
+    }
+
+    /** Ukuran maksimum frontier maju + mundur sekaligus pada solve() terakhir. */
+    public int peakFrontier() {
+        return peakFrontier;
+    }
+
+    /** mode: "BFS", "Dijkstra" atau "A*". */
+    public SolveResult solve(String mode, int from, int to, StepListener listener) {
+        nextQuery();
+        relaxations = 0;
+        peakFrontier = 2;
+        switch (mode) {
+            case "BFS": return bfs(from, to, listener);
+            case "Dijkstra": return weighted("BiDijkstra", Heuristic.ZERO, from, to, listener);
+            case "A*": return weighted("BiA*", heuristic, from, to, listener);
+            default: throw new IllegalArgumentException("Unknown bidirectional mode: " + mode);
+        }
+    }
+
+    // --- BFS ---
+
+    private SolveResult bfs(int from, int to, StepListener listener) {
+        int headF = 0, tailF = 0, headB = 0, tailB = 0, explored = 0;
+        setF(from, 0, -1);
+        setB(to, 0, -1);
+        queueF[tailF++] = from;
+        queueB[tailB++] = to;
+
+        int best = from == to ? 0 : INF, meet = from == to ? from : -1;
+
+        while (meet < 0 && headF < tailF && headB < tailB) {
+            // Expand satu level penuh dari sisi dengan frontier lebih kecil
+            boolean forward = (tailF - headF) <= (tailB - headB);
+            int levelEnd = forward ? tailF : tailB;
+            while (forward ? headF < levelEnd : headB < levelEnd) {
+                Cancellation.check();
+                int current = forward ? queueF[headF++] : queueB[headB++];
+                explored++;
+                listener.onStep(forward ? StepListener.VISIT : StepListener.VISIT_BACKWARD, current);
+
+                for (int dir = 0; dir < 4; dir++) {
+                    if (!grid.isOpen(current, dir)) continue;
+                    int neighbor = grid.neighbor(current, dir);
+                    if (forward) {
+                        if (stampF[neighbor] == query) continue;
+                        setF(neighbor, gF[current] + 1, current);
+                        queueF[tailF++] = neighbor;
+                        relaxations++;
+                        if (stampB[neighbor] == query && gF[neighbor] + gB[neighbor] < best) {
+                            best = gF[neighbor] + gB[neighbor];
+                            meet = neighbor;
+                        }
+                    } else {
+                        if (stampB[neighbor] == query) continue;
+                        setB(neighbor, gB[current] + 1, current);
+                        queueB[tailB++] = neighbor;
+                        relaxations++;
+                        if (stampF[neighbor] == query && gF[neighbor] + gB[neighbor] < best) {
+                            best = gF[neighbor] + gB[neighbor];
+                            meet = neighbor;
+                        }
+                    }
+                }
+                int frontier = (tailF - headF) + (tailB - headB);
+                if (frontier > peakFrontier) peakFrontier = frontier;
+            }
+        }
+        if (meet < 0) return SolveResult.notFound("BiBFS", explored);
+        return buildResult("BiBFS", meet, explored);
+    }
+
+    // --- DIJKSTRA / A* ---
+
+    private SolveResult weighted(String name, Heuristic h, int from, int to, StepListener listener) {
+        openF.clear();
+        openB.clear();
+        int explored = 0;
+
+        setF(from, 0, -1);
+        setB(to, 0, -1);
+        openF.insert(from, h.estimate(from, to));
+        openB.insert(to, h.estimate(from, to));
+
+        int mu = from == to ? 0 : INF, meet = from == to ? from : -1;
+        boolean aStar = h != Heuristic.ZERO;
+
+        while (!openF.isEmpty() && !openB.isEmpty()) {
+            Cancellation.check();
+            int topF = openF.peekKey(), topB = openB.peekKey();
+            if (aStar ? (topF >= mu || topB >= mu) : (long) topF + topB >= mu) break;
+
+            boolean forward = openF.size() <= openB.size();
+            int current = forward ? openF.pop() : openB.pop();
+            explored++;
+            listener.onStep(forward ? StepListener.VISIT : StepListener.VISIT_BACKWARD, current);
+
+            for (int dir = 0; dir < 4; dir++) {
+                if (!grid.isOpen(current, dir)) continue;
+                int neighbor = grid.neighbor(current, dir);
+                if (forward) {
+                    int g = gF[current] + grid.cost(neighbor);
+                    if (stampF[neighbor] == query && g >= gF[neighbor]) continue;
+                    setF(neighbor, g, current);
+                    openF.insertOrDecrease(neighbor, g + h.estimate(neighbor, to));
+                    relaxations++;
+                    if (stampB[neighbor] == query && g + gB[neighbor] < mu) {
+                        mu = g + gB[neighbor];
+                        meet = neighbor;
+                    }
+                } else {
+                    int g = gB[current] + grid.cost(current);
+                    if (stampB[neighbor] == query && g >= gB[neighbor]) continue;
+                    setB(neighbor, g, current);
+                    openB.insertOrDecrease(neighbor, g + h.estimate(from, neighbor));
+                    relaxations++;
+                    if (stampF[neighbor] == query && gF[neighbor] + g < mu) {
+                        mu = gF[neighbor] + g;
+                        meet = neighbor;
+                    }
+                }
+            }
+            int frontier = openF.size() + openB.size();
+            if (frontier > peakFrontier) peakFrontier = frontier;
+        }
+        if (meet < 0) return SolveResult.notFound(name, explored);
+        return buildResult(name, meet, explored);
+    }
+
+    // --- UTILITIES ---
+
+    /** Gabungkan rantai parent maju (start..meet) dan mundur (meet..exit). */
+    private SolveResult buildResult(String name, int meet, int explored) {
+        int lenF = 0, lenB = 0;
+        for (int c = meet; c != -1; c = parentF[c]) lenF++;
+        for (int c = parentB[meet]; c != -1; c = parentB[c]) lenB++;
+
+        int[] path = new int[lenF + lenB];
+        int i = lenF - 1;
+        for (int c = meet; c != -1; c = parentF[c]) path[i--] = c;
+        i = lenF;
+        for (int c = parentB[meet]; c != -1; c = parentB[c]) path[i++] = c;
+        return new SolveResult(name, path, SearchPaths.pathCost(grid, path), explored);
+    }
+
+    private void setF(int cell, int g, int parent) {
+        stampF[cell] = query;
+        gF[cell] = g;
+        parentF[cell] = parent;
+    }
+
+    private void setB(int cell, int g, int next) {
+        stampB[cell] = query;
+        gB[cell] = g;
+        parentB[cell] = next;
+    }
+
+    private void nextQuery() {
+        if (++query == 0) {
+            Arrays.fill(stampF, 0);
+            Arrays.fill(stampB, 0);
+            query = 1;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+import java.util.Arrays;
+
+/**
+ * Priority queue Dial (bucket queue melingkar) untuk key integer kecil.
+ *
+ * Karena cost terrain paling besar C, semua key yang sedang antri selalu
+ * berada di rentang [min, min + C]. Cukup C + 1 bucket berisi index sel,
+ * push/pop O(1) dan tidak ada alokasi per edge (array bucket hanya tumbuh
+ * sesekali lalu dipakai ulang). Edge cost 0 (DIRT) masuk ke bucket yang
+ * sedang dibaca, jadi tidak perlu kasus khusus seperti 0-1 BFS.
+ */
+public class BucketQueue {
+    private final int span;
+    private final int[][] buckets;
+    private final int[] sizes;
+    private int cursor; // Key minimum saat ini
+    private int count;
+
+    public BucketQueue(int maxEdgeCost) {
+        this.span = maxEdgeCost + 1;
+        this.buckets = new int[span][16];
+        this.sizes = new int[span];
+    }
+
+    public void clear() {
+        Arrays.fill(sizes, 0);
+        cursor = 0;
+        count = 0;
+    }
+
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    public int size() {
+        return count;
+    }
+
+    /** Key harus di rentang [currentKey(), currentKey() + maxEdgeCost]. */
+    public void push(int item, int key) {
+        int b = key % span;
+        int[] bucket = buckets[b];
+        if (sizes[b] == bucket.length) {
+            bucket = buckets[b] = Arrays.copyOf(bucket, bucket.length * 2);
+        }
+        bucket[sizes[b]++] = item;
+        count++;
+    }
+
+    /** Ambil item dengan key terkecil; key-nya bisa dibaca lewat currentKey(). */
+    public int pop() {
+        int b = cursor % span;
+        while (sizes[b] == 0) {
+            cursor++;
+            b = cursor % span;
+        }
+        count--;
+        return buckets[b][--sizes[b]];
+    }
+
+    public int currentKey() {
+        return cursor;
+    }
+}
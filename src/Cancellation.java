@@ -0,0 +1,18 @@
+import java.util.concurrent.CancellationException;
+
+/**
+ * Titik cek pembatalan kooperatif untuk loop algoritma.
+ *
+ * Job dibatalkan dengan meng-interrupt thread worker-nya (lihat JobScheduler).
+ * Generator dan solver memanggil check() sekali per iterasi loop utama: biayanya
+ * hanya satu baca field thread, dan job yang digantikan berhenti dalam satu
+ * iterasi tanpa perlu meneruskan token ke setiap signature.
+ */
+public final class Cancellation {
+    private Cancellation() {}
+
+    /** Lempar CancellationException jika thread ini diminta berhenti (status interrupt dipertahankan). */
+    public static void check() {
+        if (Thread.currentThread().isInterrupted()) throw new CancellationException("Job cancelled");
+    }
+}
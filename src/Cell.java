@@ -1,6 +1,24 @@
 import java.awt.*;
 
 public class Cell {
+    // Objek gambar dibuat sekali saja, bukan per sel per frame
+    private static final Color TILE_GRID = new Color(0, 0, 0, 60);
+    private static final Color GRASS_BLADE = new Color(20, 50, 10, 150);
+    private static final Color WATER_RIPPLE = new Color(100, 150, 200, 80);
+    private static final Color MUD_SPOT = new Color(30, 20, 10, 100);
+    private static final Color DIRT_PEBBLE = new Color(60, 50, 40, 120);
+    private static final Color WALL_COLOR = new Color(48, 32, 0); // Batu arang tua
+    private static final Color POST_COLOR = new Color(45, 50, 55); // Tiang sedikit lebih terang dari dinding
+    private static final Color POST_HIGHLIGHT = new Color(200, 100, 0);
+    private static final BasicStroke WALL_STROKE = new BasicStroke(6.0f);
+    private static final BasicStroke THIN_WALL_STROKE = new BasicStroke(2.0f);
+    /** Ukuran sel minimum untuk dekorasi, tiang tebal dan label (ofset dekorasi dirancang untuk 30 px). */
+    public static final int DETAIL_SIZE = 24;
+    private static final Font LABEL_FONT = new Font("Arial", Font.BOLD, 12);
+    private static final Color LABEL_BG = new Color(0, 0, 0, 200);
+    private static final Color EXIT_TEXT = new Color(255, 100, 100);
+    private static final Color START_TEXT = new Color(100, 255, 100);
+
     int x, y;
     boolean[] walls = {true, true, true, true}; // Top, Right, Bottom, Left
     boolean visited = false;
@@ -19,67 +37,56 @@ public class Cell {
     }
 
     // --- METHOD GAMBAR LANTAI (Updated Dark Theme) ---
-    public void drawTerrain(Graphics g, int size) {
+    // Overlay visited tidak digambar di sini lagi: lantai di-cache oleh MazeRenderer,
+    // sedangkan jejak visited (abu-coklat gelap transparan) adalah lapisan terpisah di sana.
+    public void drawTerrain(Graphics2D g2, int size) {
         int px = x * size;
         int py = y * size;
-        Graphics2D g2 = (Graphics2D) g;
-        g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
 
         // 1. LANTAI (FLOOR TILES) - Warna dari Terrain.java yang baru
         g2.setColor(terrain.color);
         g2.fillRect(px, py, size, size);
 
         // Efek Grid Ubin Samar (Dibuat lebih gelap dan tegas)
-        g2.setColor(new Color(0, 0, 0, 60)); // Lebih gelap (alpha 60)
+        g2.setColor(TILE_GRID); // Lebih gelap (alpha 60)
         g2.drawRect(px, py, size, size);
 
         // 2. DEKORASI TERRAIN (Warna disesuaikan dengan tema gelap)
+        if (size < DETAIL_SIZE) return; // Zoom kecil: dekorasi tidak terlihat
         if (terrain == Terrain.GRASS) {
             // Rumput gelap
-            g2.setColor(new Color(20, 50, 10, 150));
+            g2.setColor(GRASS_BLADE);
             g2.drawLine(px + 8, py + size - 5, px + 8, py + size - 12);
             g2.drawLine(px + 12, py + size - 8, px + 12, py + size - 15);
             g2.drawLine(px + 22, py + size - 5, px + 22, py + size - 10);
         } else if (terrain == Terrain.WATER) {
             // Gelombang air (biru muda pudar agar terlihat di air gelap)
-            g2.setColor(new Color(100, 150, 200, 80));
+            g2.setColor(WATER_RIPPLE);
             g2.drawOval(px + 5, py + 10, 10, 5);
             g2.drawOval(px + 15, py + 18, 8, 4);
         } else if (terrain == Terrain.MUD) {
             // Bercak lumpur pekat
-            g2.setColor(new Color(30, 20, 10, 100));
+            g2.setColor(MUD_SPOT);
             g2.fillOval(px + 5, py + 5, 12, 12);
             g2.fillOval(px + 18, py + 18, 8, 8);
         } else if (terrain == Terrain.DIRT) {
             // Kerikil batu tua
-            g2.setColor(new Color(60, 50, 40, 120));
+            g2.setColor(DIRT_PEBBLE);
             g2.fillRect(px + 10, py + 10, 4, 4);
             g2.fillRect(px + 20, py + 22, 3, 3);
         }
-
-        // 3. OVERLAY VISITED (Jejak Hangus/Gelap)
-        if (visited) {
-            // Warna abu-coklat gelap transparan.
-            // Tidak terlalu merah agar terlihat seperti area "mati" atau sudah dieksplorasi.
-            g2.setColor(new Color(40, 30, 30, 180));
-            // Mengisi penuh satu kotak tanpa celah
-            g2.fillRect(px, py, size, size);
-        }
     }
 
     // --- METHOD GAMBAR DINDING & TIANG (Updated Dark Theme) ---
-    public void drawWalls(Graphics g, int size) {
+    public void drawWalls(Graphics2D g2, int size) {
         int px = x * size;
         int py = y * size;
-        Graphics2D g2 = (Graphics2D) g;
-        g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
 
-        // 4. WARNA DINDING & TIANG (Lebih Gelap/Batu Arang)
-        Color wallColor = new Color(48, 32, 0); // Batu arang tua
-        Color postColor = new Color(45, 50, 55); // Tiang sedikit lebih terang dari dinding
+        boolean detailed = size >= DETAIL_SIZE;
 
-        g2.setStroke(new BasicStroke(6.0f));
-        g2.setColor(wallColor);
+        // 4. WARNA DINDING & TIANG (Lebih Gelap/Batu Arang)
+        g2.setStroke(detailed ? WALL_STROKE : THIN_WALL_STROKE);
+        g2.setColor(WALL_COLOR);
 
         if (walls[0]) g2.drawLine(px, py, px + size, py);           // Tops
         if (walls[1]) g2.drawLine(px + size, py, px + size, py + size); // Right
@@ -87,17 +94,19 @@ public class Cell {
         if (walls[3]) g2.drawLine(px, py + size, px, py);           // Left
 
         // 5. DEKORASI TIANG (CORNER POSTS)
-        int pSize = 8;
+        int pSize = detailed ? 8 : 3;
         int offset = pSize / 2;
 
-        g2.setColor(postColor);
+        g2.setColor(POST_COLOR);
         if (walls[0] || walls[3]) g2.fillRect(px - offset, py - offset, pSize, pSize);
         if (walls[0] || walls[1]) g2.fillRect(px + size - offset, py - offset, pSize, pSize);
         if (walls[2] || walls[1]) g2.fillRect(px + size - offset, py + size - offset, pSize, pSize);
         if (walls[2] || walls[3]) g2.fillRect(px - offset, py + size - offset, pSize, pSize);
 
+        if (!detailed) return;
+
         // Highlight Tiang (Dibuat lebih redup)
-        g2.setColor(new Color(200, 100, 0)); // Highlight abu tua
+        g2.setColor(POST_HIGHLIGHT); // Highlight abu tua
         if (walls[0] || walls[3]) g2.fillRect(px - offset + 1, py - offset + 1, pSize-2, pSize-2);
         if (walls[0] || walls[1]) g2.fillRect(px + size - offset + 1, py - offset + 1, pSize-2, pSize-2);
         if (walls[2] || walls[1]) g2.fillRect(px + size - offset + 1, py + size - offset + 1, pSize-2, pSize-2);
@@ -105,8 +114,7 @@ public class Cell {
 
         // 6. LABEL (START / EXIT)
         if (label != null) {
-            Font font = new Font("Arial", Font.BOLD, 12);
-            g2.setFont(font);
+            g2.setFont(LABEL_FONT);
             FontMetrics fm = g2.getFontMetrics();
 
             String text = label;
@@ -116,13 +124,13 @@ public class Cell {
             int ty = py + (size - fm.getHeight()) / 2 + fm.getAscent();
 
             // Background label hitam pekat transparan
-            g2.setColor(new Color(0, 0, 0, 200));
+            g2.setColor(LABEL_BG);
             g2.fillRoundRect(tx - 4, ty - txtH + 2, txtW + 8, txtH, 6, 6);
 
             g2.setColor(Color.WHITE);
             // Warna teks sedikit diredam agar tidak terlalu mencolok di tema gelap
-            if (label.equals("EXIT")) g2.setColor(new Color(255, 100, 100));
-            if (label.equals("Start")) g2.setColor(new Color(100, 255, 100));
+            if (label.equals("EXIT")) g2.setColor(EXIT_TEXT);
+            if (label.equals("Start")) g2.setColor(START_TEXT);
 
             g2.drawString(text, tx, ty);
         }
@@ -0,0 +1,76 @@
+/**
+ * MazeGrid di atas Cell[][] klasik. Dipakai MazePanel karena Cell
+ * juga menyimpan state gambar (visited overlay, label Start/EXIT).
+ */
+public class CellGrid implements MazeGrid {
+    private final int cols, rows;
+    private final Cell[][] grid;
+
+    public CellGrid(int cols, int rows) {
+        this.cols = cols;
+        this.rows = rows;
+        this.grid = new Cell[rows][cols];
+        for (int y = 0; y < rows; y++) {
+            for (int x = 0; x < cols; x++) {
+                grid[y][x] = new Cell(x, y);
+            }
+        }
+    }
+
+    public Cell getCell(int index) {
+        return grid[index / cols][index % cols];
+    }
+
+    public Cell[][] getCells() {
+        return grid;
+    }
+
+    @Override
+    public int cols() { return cols; }
+
+    @Override
+    public int rows() { return rows; }
+
+    @Override
+    public boolean isOpen(int index, int dir) {
+        return !getCell(index).walls[dir] && neighbor(index, dir) >= 0;
+    }
+
+    @Override
+    public void openWall(int index, int dir) {
+        int n = neighbor(index, dir);
+        if (n < 0) {
+            throw new IllegalArgumentException("No neighbour for cell " + index + " in direction " + dir);
+        }
+        getCell(index).walls[dir] = false;
+        getCell(n).walls[MazeGrid.opposite(dir)] = false;
+    }
+
+    @Override
+    public Terrain getTerrain(int index) {
+        return getCell(index).terrain;
+    }
+
+    @Override
+    public void setTerrain(int index, Terrain t) {
+        getCell(index).setTerrain(t);
+    }
+
+    @Override
+    public void clear() {
+        for (Cell[] row : grid) {
+            for (Cell c : row) {
+                for (int d = 0; d < 4; d++) c.walls[d] = true;
+                c.visited = false;
+                c.label = null;
+                c.setTerrain(Terrain.DIRT);
+            }
+        }
+    }
+
+    public void resetVisited() {
+        for (Cell[] row : grid) {
+            for (Cell c : row) c.visited = false;
+        }
+    }
+}
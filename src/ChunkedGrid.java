@@ -0,0 +1,293 @@
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Grid maze out-of-core untuk dungeon yang tidak muat di heap (misal 100k x 100k
+ * = 10 miliar sel). Grid dibagi menjadi chunk 256 x 256 yang disimpan berurutan
+ * di satu file; hanya chunk yang sedang dipakai yang ada di memori, lewat cache
+ * LRU dengan kapasitas tetap (chunk kotor ditulis balik saat di-evict).
+ *
+ * Sel dialamatkan dengan long {@code y * cols + x} karena jumlah sel bisa melebihi
+ * Integer.MAX_VALUE. Layout bit per chunk sama dengan PackedGrid (bit kanan,
+ * bit bawah, byte terrain), dengan baris chunk selalu rata 4 word.
+ *
+ * Akses ke chunk yang sama dengan akses sebelumnya tidak menyentuh map cache
+ * sama sekali, jadi solver yang bergerak lokal hampir selalu kena jalur cepat.
+ * Tidak thread-safe: satu instance per thread.
+ */
+public class ChunkedGrid implements AutoCloseable {
+    public static final int CHUNK_SHIFT = 8;
+    public static final int CHUNK_SIZE = 1 << CHUNK_SHIFT; // 256
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+    private static final int WORDS_PER_ROW = CHUNK_SIZE >>> 6;
+    private static final int CHUNK_WORDS = CHUNK_SIZE * WORDS_PER_ROW;
+    private static final int CHUNK_CELLS = CHUNK_SIZE * CHUNK_SIZE;
+    /** Ukuran satu chunk di file dan di heap (byte). */
+    public static final int CHUNK_BYTES = 2 * CHUNK_WORDS * 8 + CHUNK_CELLS;
+
+    private static final Terrain[] TERRAINS = Terrain.values();
+
+    /** Satu chunk di memori. */
+    private static final class Chunk {
+        final int key;
+        final long[] eastOpen = new long[CHUNK_WORDS];
+        final long[] southOpen = new long[CHUNK_WORDS];
+        final byte[] terrain = new byte[CHUNK_CELLS];
+        boolean dirty;
+
+        Chunk(int key) {
+            this.key = key;
+        }
+    }
+
+    private final FileChannel channel;
+    private final int cols, rows;
+    private final int chunksX, chunksY;
+    private final int capacity;
+    private final LinkedHashMap<Integer, Chunk> cache;
+    private final ByteBuffer io = ByteBuffer.allocateDirect(CHUNK_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+
+    private Chunk last; // Jalur cepat: chunk yang terakhir diakses
+    private long hits, misses, evictions;
+
+    private ChunkedGrid(FileChannel channel, int cols, int rows, int capacity) {
+        if (cols <= 0 || rows <= 0) throw new IllegalArgumentException("Invalid grid size: " + cols + "x" + rows);
+        if (capacity < 1) throw new IllegalArgumentException("Cache needs at least one chunk");
+        this.channel = channel;
+        this.cols = cols;
+        this.rows = rows;
+        this.chunksX = (cols + CHUNK_MASK) >>> CHUNK_SHIFT;
+        this.chunksY = (rows + CHUNK_MASK) >>> CHUNK_SHIFT;
+        this.capacity = capacity;
+        this.cache = new LinkedHashMap<Integer, Chunk>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, Chunk> eldest) {
+                if (size() <= ChunkedGrid.this.capacity) return false;
+                evict(eldest.getValue());
+                return true;
+            }
+        };
+    }
+
+    /**
+     * Buat file chunk baru (semua dinding tertutup, terrain DIRT). File dibuat
+     * sparse, jadi ukuran di disk tumbuh seiring chunk yang benar-benar ditulis.
+     */
+    public static ChunkedGrid create(Path path, int cols, int rows, int cacheChunks) throws IOException {
+        FileChannel ch = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.SPARSE);
+        ChunkedGrid grid = new ChunkedGrid(ch, cols, rows, cacheChunks);
+        long size = (long) grid.chunksX * grid.chunksY * CHUNK_BYTES;
+        if (size > 0) ch.write(ByteBuffer.allocate(1), size - 1); // Set panjang file tanpa mengisi
+        return grid;
+    }
+
+    /** Buka file chunk yang sudah ada; ukuran grid tidak disimpan di file, jadi harus diberikan. */
+    public static ChunkedGrid open(Path path, int cols, int rows, int cacheChunks) throws IOException {
+        FileChannel ch = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        ChunkedGrid grid = new ChunkedGrid(ch, cols, rows, cacheChunks);
+        long expected = (long) grid.chunksX * grid.chunksY * CHUNK_BYTES;
+        if (ch.size() != expected) {
+            ch.close();
+            throw new IOException("Chunk file " + path + " does not match " + cols + "x" + rows);
+        }
+        return grid;
+    }
+
+    /** Jumlah chunk yang muat dalam budget heap tertentu (minimal 1). */
+    public static int chunksForBudget(long heapBytes) {
+        return (int) Math.max(1, Math.min(Integer.MAX_VALUE, heapBytes / CHUNK_BYTES));
+    }
+
+    public int cols() { return cols; }
+    public int rows() { return rows; }
+    public long size() { return (long) cols * rows; }
+    public int chunksX() { return chunksX; }
+
+    public long cacheHits() { return hits; }
+    public long cacheMisses() { return misses; }
+    public long cacheEvictions() { return evictions; }
+
+    public long index(int x, int y) {
+        return (long) y * cols + x;
+    }
+
+    /** Index tetangga di arah dir, atau -1 jika di luar grid. */
+    public long neighbor(long cell, int dir) {
+        int x = (int) (cell % cols);
+        switch (dir) {
+            case MazeGrid.TOP: return cell >= cols ? cell - cols : -1;
+            case MazeGrid.RIGHT: return x < cols - 1 ? cell + 1 : -1;
+            case MazeGrid.BOTTOM: return cell < size() - cols ? cell + cols : -1;
+            case MazeGrid.LEFT: return x > 0 ? cell - 1 : -1;
+            default: return -1;
+        }
+    }
+
+    /** Sama dengan MazeGrid.isOpen, tetapi dengan index long. */
+    public boolean isOpen(long cell, int dir) {
+        int x = (int) (cell % cols), y = (int) (cell / cols);
+        switch (dir) {
+            case MazeGrid.TOP: return y > 0 && bit(x, y - 1, false);
+            case MazeGrid.RIGHT: return bit(x, y, true);
+            case MazeGrid.BOTTOM: return bit(x, y, false);
+            case MazeGrid.LEFT: return x > 0 && bit(x - 1, y, true);
+            default: return false;
+        }
+    }
+
+    public int cost(long cell) {
+        return getTerrain(cell).cost;
+    }
+
+    public Terrain getTerrain(long cell) {
+        int x = (int) (cell % cols), y = (int) (cell / cols);
+        return TERRAINS[chunk(x, y, false).terrain[local(x, y)]];
+    }
+
+    public void setTerrain(long cell, Terrain t) {
+        int x = (int) (cell % cols), y = (int) (cell / cols);
+        chunk(x, y, true).terrain[local(x, y)] = (byte) t.ordinal();
+    }
+
+    /** Hancurkan dinding antara sel dan tetangganya di arah dir. */
+    public void openWall(long cell, int dir) {
+        if (neighbor(cell, dir) < 0) {
+            throw new IllegalArgumentException("No neighbour for cell " + cell + " in direction " + dir);
+        }
+        int x = (int) (cell % cols), y = (int) (cell / cols);
+        switch (dir) {
+            case MazeGrid.TOP: setBit(x, y - 1, false); break;
+            case MazeGrid.RIGHT: setBit(x, y, true); break;
+            case MazeGrid.BOTTOM: setBit(x, y, false); break;
+            case MazeGrid.LEFT: setBit(x - 1, y, true); break;
+        }
+    }
+
+    /**
+     * Sink untuk generator streaming (EllerGenerator): setiap baris disalin per
+     * chunk, 4 word sekaligus. Supaya tidak thrashing, kapasitas cache sebaiknya
+     * minimal chunksX() karena satu baris menyentuh semua chunk di baris chunk itu.
+     */
+    public RowSink rowSink() {
+        return (y, eastOpen, southOpen, terrain) -> {
+            int ly = y & CHUNK_MASK;
+            boolean lastRow = y == rows - 1;
+            for (int cx = 0; cx < chunksX; cx++) {
+                int x0 = cx << CHUNK_SHIFT;
+                Chunk c = chunk(x0, y, true);
+                int w0 = x0 >>> 6;
+                for (int w = 0; w < WORDS_PER_ROW && w0 + w < eastOpen.length; w++) {
+                    c.eastOpen[ly * WORDS_PER_ROW + w] = eastOpen[w0 + w];
+                    c.southOpen[ly * WORDS_PER_ROW + w] = lastRow ? 0 : southOpen[w0 + w];
+                }
+                System.arraycopy(terrain, x0, c.terrain, ly << CHUNK_SHIFT, Math.min(CHUNK_SIZE, cols - x0));
+            }
+        };
+    }
+
+    /** Tulis semua chunk kotor ke file. */
+    public void flush() throws IOException {
+        for (Chunk c : cache.values()) {
+            if (c.dirty) write(c);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            channel.close();
+        }
+    }
+
+    // --- CACHE ---
+
+    private static int local(int x, int y) {
+        return ((y & CHUNK_MASK) << CHUNK_SHIFT) | (x & CHUNK_MASK);
+    }
+
+    private boolean bit(int x, int y, boolean east) {
+        Chunk c = chunk(x, y, false);
+        int i = local(x, y);
+        return ((east ? c.eastOpen : c.southOpen)[i >>> 6] & (1L << i)) != 0;
+    }
+
+    private void setBit(int x, int y, boolean east) {
+        Chunk c = chunk(x, y, true);
+        int i = local(x, y);
+        (east ? c.eastOpen : c.southOpen)[i >>> 6] |= 1L << i;
+    }
+
+    private Chunk chunk(int x, int y, boolean write) {
+        int key = (y >>> CHUNK_SHIFT) * chunksX + (x >>> CHUNK_SHIFT);
+        Chunk c = last;
+        if (c != null && c.key == key) {
+            hits++;
+        } else {
+            c = cache.get(key);
+            if (c != null) {
+                hits++;
+            } else {
+                misses++;
+                c = read(key);
+                cache.put(key, c);
+            }
+            last = c;
+        }
+        if (write) c.dirty = true;
+        return c;
+    }
+
+    private Chunk read(int key) {
+        Chunk c = new Chunk(key);
+        try {
+            io.clear();
+            long pos = (long) key * CHUNK_BYTES;
+            while (io.hasRemaining()) {
+                if (channel.read(io, pos + io.position()) < 0) break; // Ekor file sparse = nol
+            }
+            io.flip();
+            io.asLongBuffer().get(c.eastOpen);
+            io.position(CHUNK_WORDS * 8);
+            io.asLongBuffer().get(c.southOpen);
+            io.position(2 * CHUNK_WORDS * 8);
+            io.get(c.terrain);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read chunk " + key, e);
+        }
+        return c;
+    }
+
+    private void evict(Chunk c) {
+        evictions++;
+        if (last == c) last = null;
+        if (!c.dirty) return;
+        try {
+            write(c);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write chunk " + c.key, e);
+        }
+    }
+
+    private void write(Chunk c) throws IOException {
+        io.clear();
+        io.asLongBuffer().put(c.eastOpen);
+        io.position(CHUNK_WORDS * 8);
+        io.asLongBuffer().put(c.southOpen);
+        io.position(2 * CHUNK_WORDS * 8);
+        io.put(c.terrain);
+        io.flip();
+        long pos = (long) c.key * CHUNK_BYTES;
+        while (io.hasRemaining()) channel.write(io, pos + io.position());
+        c.dirty = false;
+    }
+}
@@ -0,0 +1,288 @@
+import java.util.Arrays;
+
+/**
+ * BFS, Dijkstra dan A* di atas ChunkedGrid (maze out-of-core).
+ *
+ * Array state per sel (dist, parent, stamp) seperti di solver lain tidak mungkin
+ * dipakai untuk 10 miliar sel, jadi state disimpan sparse: hash map open
+ * addressing dengan key long (index sel), hanya untuk sel yang benar-benar
+ * disentuh. Parent disimpan sebagai arah (1 byte), bukan index.
+ *
+ * maxStates membatasi dua hal sekaligus: jumlah sel yang disentuh (hash map) dan
+ * jumlah entri frontier (heap Dijkstra/A* dengan entri basi, antrian BFS). Jika
+ * salah satunya penuh, pencarian berhenti dengan budgetExceeded. Memori satu
+ * pencarian paling banyak maxStates * bytesPerState() byte.
+ *
+ * A* memakai key (g + h * costMin, h): dengan DIRT (cost 0) heuristic jarak
+ * praktis nol, tetapi tie-break Manhattan tetap mengarahkan ekspansi ke exit
+ * sehingga chunk yang dibaca tetap lokal dan cache LRU jarang miss.
+ */
+public class ChunkedSearch {
+    private static final byte NO_PARENT = 4;
+    private static final byte CLOSED = 8;
+
+    /** Hasil pencarian dengan index sel long. */
+    public static final class Result {
+        public final String solver;
+        public final long[] path; // Kosong jika tidak ada jalur
+        public final long cost;
+        public final long explored;
+        public final boolean budgetExceeded;
+
+        Result(String solver, long[] path, long cost, long explored, boolean budgetExceeded) {
+            this.solver = solver;
+            this.path = path;
+            this.cost = cost;
+            this.explored = explored;
+            this.budgetExceeded = budgetExceeded;
+        }
+
+        public boolean found() {
+            return path.length > 0;
+        }
+    }
+
+    private final ChunkedGrid grid;
+    private final long maxStates;
+    private final int minCost;
+
+    // State sparse: keys[i] = sel + 1 (0 = slot kosong)
+    private long[] keys;
+    private int[] dist;
+    private byte[] info;  // Bit 0-2: arah ke parent (NO_PARENT = start), bit 3: CLOSED
+    private int size;
+
+    // Frontier: antrian BFS (ring) atau binary heap (priority, sel) dengan lazy deletion
+    private long[] queue = new long[1024];
+    private long[] heapKey = new long[1024];
+    private long[] heapCell = new long[1024];
+    private int head, tail, heapSize;
+
+    public ChunkedSearch(ChunkedGrid grid, long maxStates) {
+        this.grid = grid;
+        this.maxStates = maxStates;
+        int min = Integer.MAX_VALUE;
+        for (Terrain t : Terrain.values()) min = Math.min(min, t.cost);
+        this.minCost = min;
+    }
+
+    /**
+     * Batas atas byte heap per state dari budget maxStates: hash map (key + dist + info,
+     * load factor <= 1/2 dan tumbuh dua kali lipat, jadi <= 4 slot per state) ditambah
+     * frontier (heap key + sel, kapasitas <= 2 entri per state; antrian BFS lebih kecil).
+     */
+    public static long bytesPerState() {
+        return 4 * (8 + 4 + 1) + 2 * (8 + 8);
+    }
+
+    /** mode: "BFS", "Dijkstra" atau "A*". */
+    public Result solve(String mode, long from, long to) {
+        reset();
+        switch (mode) {
+            case "BFS": return bfs(from, to);
+            case "Dijkstra": return weighted("ChunkedDijkstra", false, from, to);
+            case "A*": return weighted("ChunkedA*", true, from, to);
+            default: throw new IllegalArgumentException("Unknown chunked solver: " + mode);
+        }
+    }
+
+    // --- BFS ---
+
+    private Result bfs(long from, long to) {
+        long explored = 0;
+        put(from, 0, NO_PARENT);
+        push(from);
+        while (head != tail) {
+            Cancellation.check();
+            long current = poll();
+            explored++;
+            if (current == to) return buildResult("ChunkedBFS", to, explored);
+
+            for (int dir = 0; dir < 4; dir++) {
+                if (!grid.isOpen(current, dir)) continue;
+                long neighbor = grid.neighbor(current, dir);
+                if (find(neighbor) >= 0) continue;
+                // Setiap sel masuk antrian sekali, jadi batas ini juga membatasi antrian
+                if (size >= maxStates) return exceeded("ChunkedBFS", explored);
+                put(neighbor, 0, (byte) MazeGrid.opposite(dir));
+                push(neighbor);
+            }
+        }
+        return new Result("ChunkedBFS", new long[0], -1, explored, false);
+    }
+
+    // --- DIJKSTRA / A* ---
+
+    private Result weighted(String name, boolean aStar, long from, long to) {
+        long explored = 0;
+        put(from, 0, NO_PARENT);
+        heapPush(key(0, from, to, aStar), from);
+
+        while (heapSize > 0) {
+            Cancellation.check();
+            long current = heapCell[0];
+            heapPop();
+            int slot = find(current);
+            if ((info[slot] & CLOSED) != 0) continue; // Entri basi
+            info[slot] |= CLOSED;
+            explored++;
+            if (current == to) return buildResult(name, to, explored);
+
+            int g = dist[slot];
+            for (int dir = 0; dir < 4; dir++) {
+                if (!grid.isOpen(current, dir)) continue;
+                long neighbor = grid.neighbor(current, dir);
+                int newDist = g + grid.cost(neighbor);
+                int s = find(neighbor);
+                if (s >= 0 && ((info[s] & CLOSED) != 0 || newDist >= dist[s])) continue;
+                if (s < 0 && size >= maxStates) return exceeded(name, explored);
+                if (heapSize >= maxStates) return exceeded(name, explored); // Entri basi ikut memakan heap
+                put(neighbor, newDist, (byte) MazeGrid.opposite(dir));
+                heapPush(key(newDist, neighbor, to, aStar), neighbor);
+            }
+        }
+        return new Result(name, new long[0], -1, explored, false);
+    }
+
+    /** Key heap: f di 32 bit atas, Manhattan (tie-break) di 32 bit bawah. */
+    private long key(int g, long cell, long to, boolean aStar) {
+        if (!aStar) return (long) g << 32;
+        int cols = grid.cols();
+        long h = Math.abs(cell % cols - to % cols) + Math.abs(cell / cols - to / cols);
+        return (g + h * minCost) << 32 | h;
+    }
+
+    // --- UTILITIES ---
+
+    private Result buildResult(String name, long to, long explored) {
+        long[] path = new long[16];
+        int length = 0;
+        long cost = 0;
+        for (long c = to; ; ) {
+            if (length == path.length) path = Arrays.copyOf(path, length * 2);
+            path[length++] = c;
+            byte dir = (byte) (info[find(c)] & 7);
+            if (dir == NO_PARENT) break;
+            cost += grid.cost(c);
+            c = grid.neighbor(c, dir);
+        }
+        path = Arrays.copyOf(path, length);
+        for (int i = 0, j = length - 1; i < j; i++, j--) {
+            long t = path[i]; path[i] = path[j]; path[j] = t;
+        }
+        return new Result(name, path, cost, explored, false);
+    }
+
+    private Result exceeded(String name, long explored) {
+        return new Result(name, new long[0], -1, explored, true);
+    }
+
+    private void reset() {
+        keys = new long[1024];
+        dist = new int[1024];
+        info = new byte[1024];
+        size = 0;
+        head = tail = heapSize = 0;
+    }
+
+    private int find(long cell) {
+        long k = cell + 1;
+        int mask = keys.length - 1;
+        for (int i = hash(k) & mask; ; i = (i + 1) & mask) {
+            if (keys[i] == k) return i;
+            if (keys[i] == 0) return -1;
+        }
+    }
+
+    /** Insert atau update state sel (flag CLOSED dipertahankan). */
+    private void put(long cell, int d, byte parentDir) {
+        if (2 * (size + 1) > keys.length) grow();
+        long k = cell + 1;
+        int mask = keys.length - 1;
+        int i = hash(k) & mask;
+        while (keys[i] != 0 && keys[i] != k) i = (i + 1) & mask;
+        if (keys[i] == 0) {
+            keys[i] = k;
+            size++;
+        }
+        dist[i] = d;
+        info[i] = (byte) ((info[i] & CLOSED) | parentDir);
+    }
+
+    private void grow() {
+        long[] oldKeys = keys;
+        int[] oldDist = dist;
+        byte[] oldInfo = info;
+        keys = new long[oldKeys.length * 2];
+        dist = new int[keys.length];
+        info = new byte[keys.length];
+        int mask = keys.length - 1;
+        for (int j = 0; j < oldKeys.length; j++) {
+            if (oldKeys[j] == 0) continue;
+            int i = hash(oldKeys[j]) & mask;
+            while (keys[i] != 0) i = (i + 1) & mask;
+            keys[i] = oldKeys[j];
+            dist[i] = oldDist[j];
+            info[i] = oldInfo[j];
+        }
+    }
+
+    private static int hash(long k) {
+        k *= 0x9E3779B97F4A7C15L;
+        return (int) (k ^ (k >>> 32));
+    }
+
+    private void push(long cell) {
+        queue[tail] = cell;
+        tail = (tail + 1) & (queue.length - 1);
+        if (tail == head) { // Penuh: gandakan dan luruskan ring
+            long[] bigger = new long[queue.length * 2];
+            int n = queue.length - head;
+            System.arraycopy(queue, head, bigger, 0, n);
+            System.arraycopy(queue, 0, bigger, n, head);
+            head = 0;
+            tail = queue.length;
+            queue = bigger;
+        }
+    }
+
+    private long poll() {
+        long cell = queue[head];
+        head = (head + 1) & (queue.length - 1);
+        return cell;
+    }
+
+    private void heapPush(long key, long cell) {
+        if (heapSize == heapKey.length) {
+            heapKey = Arrays.copyOf(heapKey, heapSize * 2);
+            heapCell = Arrays.copyOf(heapCell, heapSize * 2);
+        }
+        int i = heapSize++;
+        while (i > 0) {
+            int p = (i - 1) >>> 1;
+            if (heapKey[p] <= key) break;
+            heapKey[i] = heapKey[p];
+            heapCell[i] = heapCell[p];
+            i = p;
+        }
+        heapKey[i] = key;
+        heapCell[i] = cell;
+    }
+
+    private void heapPop() {
+        long key = heapKey[--heapSize];
+        long cell = heapCell[heapSize];
+        int i = 0;
+        while (true) {
+            int c = 2 * i + 1;
+            if (c >= heapSize) break;
+            if (c + 1 < heapSize && heapKey[c + 1] < heapKey[c]) c++;
+            if (key <= heapKey[c]) break;
+            heapKey[i] = heapKey[c];
+            heapCell[i] = heapCell[c];
+            i = c;
+        }
+        heapKey[i] = key;
+        heapCell[i] = cell;
+    }
+}
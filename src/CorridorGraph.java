@@ -0,0 +1,406 @@
+import java.util.Arrays;
+
+/**
+ * Graph junction hasil kompresi koridor.
+ *
+ * Maze sempurna (Prim/Kruskal) sebagian besar berupa koridor panjang dengan
+ * derajat 2. Setiap sel dengan derajat != 2 (junction, dead end) menjadi node;
+ * setiap koridor di antara dua node menjadi satu edge yang menyimpan urutan
+ * sel di dalamnya (run) dan jumlah Terrain.cost sel-sel tersebut. Cost edge
+ * dari X ke Y = inner + cost(Y), karena cost dihitung saat memasuki sel.
+ *
+ * Graph ini immutable setelah dibangun; state pencarian ada di {@link Search},
+ * jadi satu CorridorGraph bisa dipakai banyak thread sekaligus. Jika struktur
+ * atau terrain grid berubah, graph harus dibangun ulang.
+ */
+public class CorridorGraph {
+    private final MazeGrid grid;
+
+    // ref[cell] >= 0 : id node; ref[cell] < 0 : sel koridor milik edge -(ref + 1)
+    private final int[] ref;
+    private final int[] offset; // Posisi sel koridor di dalam run edge-nya
+
+    private final int nodeCount;
+    private final int[] nodeCell;
+
+    private final int edgeCount;
+    private final int[] edgeA, edgeB;  // Node ujung; run disimpan berurutan dari A ke B
+    private final int[] edgeInner;     // Jumlah cost sel di dalam run
+    private final int[] runStart, runLength;
+    private final int[] runCells;
+
+    private final int[] adjStart; // CSR: edge milik node u ada di adjEdge[adjStart[u] .. adjStart[u+1])
+    private final int[] adjEdge;
+
+    private CorridorGraph(Builder b) {
+        this.grid = b.grid;
+        this.ref = b.ref;
+        this.offset = b.offset;
+        this.nodeCount = b.nodeCount;
+        this.nodeCell = Arrays.copyOf(b.nodeCell, b.nodeCount);
+        this.edgeCount = b.edgeCount;
+        this.edgeA = Arrays.copyOf(b.edgeA, b.edgeCount);
+        this.edgeB = Arrays.copyOf(b.edgeB, b.edgeCount);
+        this.edgeInner = Arrays.copyOf(b.edgeInner, b.edgeCount);
+        this.runStart = Arrays.copyOf(b.runStart, b.edgeCount);
+        this.runLength = Arrays.copyOf(b.runLength, b.edgeCount);
+        this.runCells = Arrays.copyOf(b.runCells, b.runSize);
+
+        adjStart = new int[nodeCount + 1];
+        for (int e = 0; e < edgeCount; e++) {
+            adjStart[edgeA[e] + 1]++;
+            if (edgeB[e] != edgeA[e]) adjStart[edgeB[e] + 1]++;
+        }
+        for (int u = 0; u < nodeCount; u++) adjStart[u + 1] += adjStart[u];
+        adjEdge = new int[adjStart[nodeCount]];
+        int[] fill = Arrays.copyOf(adjStart, nodeCount);
+        for (int e = 0; e < edgeCount; e++) {
+            adjEdge[fill[edgeA[e]]++] = e;
+            if (edgeB[e] != edgeA[e]) adjEdge[fill[edgeB[e]]++] = e;
+        }
+    }
+
+    /** Bangun graph junction dari grid dalam satu pass O(n). */
+    public static CorridorGraph build(MazeGrid grid) {
+        return new Builder(grid).build();
+    }
+
+    public MazeGrid getGrid() { return grid; }
+    public int getNodeCount() { return nodeCount; }
+    public int getEdgeCount() { return edgeCount; }
+
+    /** Berapa kali lebih kecil graph ini dibanding grid sel (jumlah node). */
+    public double compressionRatio() {
+        return (double) grid.size() / Math.max(1, nodeCount);
+    }
+
+    // --- BUILDER ---
+
+    private static class Builder {
+        final MazeGrid grid;
+        final int[] ref;
+        final int[] offset;
+        int nodeCount, edgeCount, runSize;
+        int[] nodeCell = new int[16];
+        int[] edgeA = new int[16], edgeB = new int[16], edgeInner = new int[16];
+        int[] runStart = new int[16], runLength = new int[16];
+        int[] runCells = new int[64];
+
+        Builder(MazeGrid grid) {
+            this.grid = grid;
+            int n = grid.size();
+            this.ref = new int[n];
+            this.offset = new int[n];
+        }
+
+        private static final int CORRIDOR = Integer.MIN_VALUE; // Sel koridor yang belum masuk edge manapun
+
+        CorridorGraph build() {
+            int n = grid.size();
+            for (int c = 0; c < n; c++) {
+                ref[c] = degree(c) == 2 ? CORRIDOR : addNode(c);
+            }
+            for (int u = 0; u < nodeCount; u++) {
+                Cancellation.check();
+                walkFrom(u);
+            }
+
+            // Koridor berbentuk cincin tanpa junction: jadikan salah satu selnya node
+            for (int c = 0; c < n; c++) {
+                if (ref[c] == CORRIDOR) {
+                    ref[c] = addNode(c);
+                    walkFrom(ref[c]);
+                }
+            }
+            return new CorridorGraph(this);
+        }
+
+        private int degree(int c) {
+            int d = 0;
+            for (int dir = 0; dir < 4; dir++) if (grid.isOpen(c, dir)) d++;
+            return d;
+        }
+
+        private int addNode(int cell) {
+            if (nodeCount == nodeCell.length) nodeCell = Arrays.copyOf(nodeCell, nodeCount * 2);
+            nodeCell[nodeCount] = cell;
+            return nodeCount++;
+        }
+
+        /** Telusuri setiap koridor yang keluar dari node u sampai bertemu node lain. */
+        private void walkFrom(int u) {
+            int start = nodeCell[u];
+            for (int dir = 0; dir < 4; dir++) {
+                if (!grid.isOpen(start, dir)) continue;
+                int first = grid.neighbor(start, dir);
+                if (ref[first] >= 0) {
+                    // Dua node bertetangga langsung: catat sekali saja
+                    if (u < ref[first]) addEdge(u, ref[first], runSize, 0, 0);
+                    continue;
+                }
+                if (ref[first] != CORRIDOR) continue; // Koridor ini sudah dicatat dari ujung lain
+
+                int edge = edgeCount;
+                int begin = runSize;
+                int inner = 0;
+                int prev = start, cur = first;
+                while (ref[cur] < 0) {
+                    ref[cur] = -(edge + 1);
+                    offset[cur] = runSize - begin;
+                    pushRun(cur);
+                    inner += grid.cost(cur);
+                    int next = -1;
+                    for (int d = 0; d < 4 && next < 0; d++) {
+                        if (!grid.isOpen(cur, d)) continue;
+                        int nb = grid.neighbor(cur, d);
+                        if (nb != prev) next = nb;
+                    }
+                    prev = cur;
+                    cur = next;
+                }
+                addEdge(u, ref[cur], begin, runSize - begin, inner);
+            }
+        }
+
+        private void pushRun(int cell) {
+            if (runSize == runCells.length) runCells = Arrays.copyOf(runCells, runSize * 2);
+            runCells[runSize++] = cell;
+        }
+
+        private void addEdge(int a, int b, int start, int length, int inner) {
+            if (edgeCount == edgeA.length) {
+                int cap = edgeCount * 2;
+                edgeA = Arrays.copyOf(edgeA, cap);
+                edgeB = Arrays.copyOf(edgeB, cap);
+                edgeInner = Arrays.copyOf(edgeInner, cap);
+                runStart = Arrays.copyOf(runStart, cap);
+                runLength = Arrays.copyOf(runLength, cap);
+            }
+            edgeA[edgeCount] = a;
+            edgeB[edgeCount] = b;
+            edgeInner[edgeCount] = inner;
+            runStart[edgeCount] = start;
+            runLength[edgeCount] = length;
+            edgeCount++;
+        }
+    }
+
+    // --- SEARCH ---
+
+    /**
+     * Workspace pencarian di atas CorridorGraph (satu per thread).
+     *
+     * Mode "BFS" meminimalkan jumlah langkah, "Dijkstra" meminimalkan cost terrain,
+     * "A*" sama dengan Dijkstra plus heuristic. Start/exit boleh berada di tengah
+     * koridor: keduanya menjadi node virtual yang terhubung ke dua ujung koridornya.
+     */
+    public static class Search {
+        private final CorridorGraph g;
+        private final int[] dist;
+        private final int[] parentNode; // -1 = langsung dari start
+        private final int[] parentVia;  // Edge + arah yang dilalui untuk mencapai node ini (-1 = start)
+        private final IndexedMinHeap open;
+        private Heuristic heuristic = Heuristic.ZERO;
+        private long relaxations; // Counter query terakhir, untuk RunMetrics
+        private int peakFrontier;
+
+        public Search(CorridorGraph g) {
+            this.g = g;
+            int slots = g.nodeCount + 1; // + node virtual untuk exit
+            this.dist = new int[slots];
+            this.parentNode = new int[slots];
+            this.parentVia = new int[slots];
+            this.open = new IndexedMinHeap(slots);
+        }
+
+        public void setHeuristic(Heuristic heuristic) {
+            this.heuristic = heuristic;
+        }
+
+        /** Node yang dimasukkan / diperbaiki di open set pada solve() terakhir. */
+        public long relaxations() {
+            return relaxations;
+        }
+
+        /** Ukuran maksimum open set (dalam node junction) pada solve() terakhir. */
+        public int peakFrontier() {
+            return peakFrontier;
+        }
+
+        public SolveResult solve(String mode, int from, int to, StepListener listener) {
+            relaxations = 0;
+            peakFrontier = 0;
+            boolean steps = mode.equals("BFS");
+            Heuristic h = mode.equals("A*") ? heuristic : Heuristic.ZERO;
+            String name = "Corridor" + mode;
+            int target = g.nodeCount; // Slot node virtual exit
+            MazeGrid grid = g.grid;
+
+            if (from == to) return new SolveResult(name, new int[]{from}, 0, 0);
+
+            Arrays.fill(dist, Integer.MAX_VALUE);
+            open.clear();
+            int explored = 0;
+
+            // Exit di node: target langsung node tersebut
+            int toNode = g.ref[to] >= 0 ? g.ref[to] : -1;
+            int toEdge = toNode < 0 ? -(g.ref[to] + 1) : -1;
+
+            // Seed dari start (node, atau dua ujung koridornya)
+            if (g.ref[from] >= 0) {
+                relax(g.ref[from], 0, -1, -1, h, to);
+            } else {
+                int e = -(g.ref[from] + 1);
+                int k = g.offset[from];
+                relax(g.edgeA[e], partial(e, k, true, steps), -1, via(e, false), h, to);
+                relax(g.edgeB[e], partial(e, k, false, steps), -1, via(e, true), h, to);
+                if (e == toEdge) {
+                    // Start dan exit di koridor yang sama: jalan langsung di dalam run
+                    int m = g.offset[to];
+                    relax(target, between(e, k, m, steps), -1, via(e, k < m), h, to);
+                }
+            }
+
+            while (!open.isEmpty()) {
+                Cancellation.check();
+                int u = open.pop();
+                explored++;
+
+                if (u == target || u == toNode) {
+                    int[] path = expand(from, to, u);
+                    return new SolveResult(name, path, SearchPaths.pathCost(grid, path), explored);
+                }
+                listener.onStep(StepListener.VISIT, g.nodeCell[u]);
+
+                int du = dist[u];
+                for (int i = g.adjStart[u]; i < g.adjStart[u + 1]; i++) {
+                    int e = g.adjEdge[i];
+                    int len = g.runLength[e];
+                    // Koridor berbentuk loop (A == B) bisa ditelusuri ke dua arah
+                    if (g.edgeA[e] == u) {
+                        if (e == toEdge) {
+                            int m = g.offset[to];
+                            relax(target, du + (steps ? m + 1 : runCost(e, 0, m)), u, via(e, true), h, to);
+                        }
+                        int v = g.edgeB[e];
+                        relax(v, du + (steps ? len + 1 : g.edgeInner[e] + grid.cost(g.nodeCell[v])), u, via(e, true), h, to);
+                    }
+                    if (g.edgeB[e] == u) {
+                        if (e == toEdge) {
+                            int m = g.offset[to];
+                            relax(target, du + (steps ? len - m : runCost(e, m, len - 1)), u, via(e, false), h, to);
+                        }
+                        int v = g.edgeA[e];
+                        relax(v, du + (steps ? len + 1 : g.edgeInner[e] + grid.cost(g.nodeCell[v])), u, via(e, false), h, to);
+                    }
+                }
+            }
+            return SolveResult.notFound(name, explored);
+        }
+
+        /** Encode edge + arah: forward = menelusuri run dari A ke B. */
+        private static int via(int e, boolean forward) {
+            return (e << 1) | (forward ? 1 : 0);
+        }
+
+        private void relax(int v, int d, int fromNode, int via, Heuristic h, int to) {
+            if (d >= dist[v]) return;
+            dist[v] = d;
+            parentNode[v] = fromNode;
+            parentVia[v] = via;
+            int cell = v == g.nodeCount ? to : g.nodeCell[v];
+            open.insertOrDecrease(v, d + h.estimate(cell, to));
+            relaxations++;
+            if (open.size() > peakFrontier) peakFrontier = open.size();
+        }
+
+        /** Cost/langkah dari sel koridor ke-k menuju ujung A (towardA) atau B. */
+        private int partial(int e, int k, boolean towardA, boolean steps) {
+            MazeGrid grid = g.grid;
+            if (towardA) {
+                return steps ? k + 1 : runCost(e, 0, k - 1) + grid.cost(g.nodeCell[g.edgeA[e]]);
+            }
+            return steps ? g.runLength[e] - k : runCost(e, k + 1, g.runLength[e] - 1) + grid.cost(g.nodeCell[g.edgeB[e]]);
+        }
+
+        /** Cost/langkah dari sel ke-k ke sel ke-m di dalam run yang sama. */
+        private int between(int e, int k, int m, boolean steps) {
+            if (steps) return Math.abs(m - k);
+            return k < m ? runCost(e, k + 1, m) : runCost(e, m, k - 1);
+        }
+
+        /** Jumlah cost sel run[i..j] (inklusif); 0 jika i > j. */
+        private int runCost(int e, int i, int j) {
+            int sum = 0;
+            for (int p = i; p <= j; p++) sum += g.grid.cost(g.runCells[g.runStart[e] + p]);
+            return sum;
+        }
+
+        /** Bongkar jalur node/edge kembali menjadi urutan sel lengkap (dibangun dari belakang). */
+        private int[] expand(int from, int to, int last) {
+            IntPath rev = new IntPath();
+            int node = last;
+
+            if (last == g.nodeCount) {
+                int e = parentVia[last] >> 1;
+                boolean forward = (parentVia[last] & 1) != 0;
+                int m = g.offset[to];
+                rev.add(to);
+                if (parentNode[last] < 0) {
+                    // Start dan exit di koridor yang sama
+                    int k = g.offset[from];
+                    if (forward) for (int p = m - 1; p > k; p--) rev.add(run(e, p));
+                    else for (int p = m + 1; p < k; p++) rev.add(run(e, p));
+                    rev.add(from);
+                    return rev.reversed();
+                }
+                if (forward) for (int p = m - 1; p >= 0; p--) rev.add(run(e, p));
+                else for (int p = m + 1; p < g.runLength[e]; p++) rev.add(run(e, p));
+                node = parentNode[last];
+            }
+
+            while (true) {
+                rev.add(g.nodeCell[node]);
+                int prev = parentNode[node];
+                int v = parentVia[node];
+                if (v < 0) return rev.reversed(); // node ini adalah start
+
+                int e = v >> 1;
+                boolean forward = (v & 1) != 0;
+                int len = g.runLength[e];
+                if (prev < 0) {
+                    // Node pertama, dicapai dari start yang ada di tengah koridor e
+                    int k = g.offset[from];
+                    if (forward) for (int p = len - 1; p > k; p--) rev.add(run(e, p));
+                    else for (int p = 0; p < k; p++) rev.add(run(e, p));
+                    rev.add(from);
+                    return rev.reversed();
+                }
+                if (forward) for (int p = len - 1; p >= 0; p--) rev.add(run(e, p));
+                else for (int p = 0; p < len; p++) rev.add(run(e, p));
+                node = prev;
+            }
+        }
+
+        private int run(int e, int p) {
+            return g.runCells[g.runStart[e] + p];
+        }
+    }
+
+    /** List int sederhana untuk membangun jalur secara terbalik. */
+    private static class IntPath {
+        int[] data = new int[32];
+        int size;
+
+        void add(int v) {
+            if (size == data.length) data = Arrays.copyOf(data, size * 2);
+            data[size++] = v;
+        }
+
+        int[] reversed() {
+            int[] out = new int[size];
+            for (int i = 0; i < size; i++) out[i] = data[size - 1 - i];
+            return out;
+        }
+    }
+}
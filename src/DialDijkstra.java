@@ -0,0 +1,125 @@
+import java.util.Arrays;
+
+/**
+ * Dijkstra dengan BucketQueue (algoritma Dial), khusus untuk cost Terrain
+ * yang berupa integer kecil (0, 1, 5, 10).
+ *
+ * Hanya memakai array int per index sel. Array dist/parent dan bucket dipakai
+ * ulang antar query pada grid yang sama, jadi tidak ada Node atau boxing.
+ * Seperti AStarSearch, setiap query memakai stamp: dist[i] hanya valid jika
+ * stamp[i] == query, jadi query pendek tidak membayar Arrays.fill O(n).
+ */
+public class DialDijkstra {
+    private final MazeGrid grid;
+    private final int[] dist;
+    private final int[] parent;
+    private final int[] stamp;
+    private final BucketQueue queue;
+    private int query;
+    private long relaxations; // Counter query terakhir, untuk RunMetrics
+    private int peakFrontier;
+
+    public DialDijkstra(MazeGrid grid) {
+        this.grid = grid;
+        this.dist = new int[grid.size()];
+        this.parent = new int[grid.size()];
+        this.stamp = new int[grid.size()];
+        this.queue = new BucketQueue(maxTerrainCost());
+    }
+
+    static int maxTerrainCost() {
+        int max = 0;
+        for (Terrain t : Terrain.values()) max = Math.max(max, t.cost);
+        return max;
+    }
+
+    /** Tetangga yang dimasukkan / diperbaiki di bucket queue pada solve() terakhir. */
+    public long relaxations() {
+        return relaxations;
+    }
+
+    /** Isi maksimum bucket queue (termasuk entri basi) pada solve() terakhir. */
+    public int peakFrontier() {
+        return peakFrontier;
+    }
+
+    public SolveResult solve(int from, int to, StepListener listener) {
+        nextQuery();
+        queue.clear();
+        int explored = 0;
+        relaxations = 0;
+        peakFrontier = 1;
+
+        touch(from, 0, -1);
+        queue.push(from, 0);
+
+        while (!queue.isEmpty()) {
+            Cancellation.check();
+            int current = queue.pop();
+            int d = queue.currentKey();
+
+            if (d > dist[current]) continue; // Entri basi (sudah ada jarak lebih pendek)
+
+            explored++;
+            listener.onStep(StepListener.VISIT, current);
+
+            if (current == to) {
+                return SearchPaths.build("Dial", grid, parent, current, explored);
+            }
+
+            for (int dir = 0; dir < 4; dir++) {
+                if (!grid.isOpen(current, dir)) continue;
+                int neighbor = grid.neighbor(current, dir);
+                int newDist = d + grid.cost(neighbor);
+                if (stamp[neighbor] != query || newDist < dist[neighbor]) {
+                    touch(neighbor, newDist, current);
+                    queue.push(neighbor, newDist);
+                    relaxations++;
+                }
+            }
+            if (queue.size() > peakFrontier) peakFrontier = queue.size();
+        }
+        return SolveResult.notFound("Dial", explored);
+    }
+
+    /**
+     * Dijkstra satu-ke-semua: isi out[v] dengan cost minimum dari source ke v
+     * (Integer.MAX_VALUE jika tidak terjangkau). Dipakai untuk preprocessing landmark.
+     */
+    public void distancesFrom(int source, int[] out) {
+        Arrays.fill(out, Integer.MAX_VALUE);
+        queue.clear();
+        out[source] = 0;
+        queue.push(source, 0);
+
+        while (!queue.isEmpty()) {
+            Cancellation.check();
+            int current = queue.pop();
+            int d = queue.currentKey();
+            if (d > out[current]) continue;
+
+            for (int dir = 0; dir < 4; dir++) {
+                if (!grid.isOpen(current, dir)) continue;
+                int neighbor = grid.neighbor(current, dir);
+                int newDist = d + grid.cost(neighbor);
+                if (newDist < out[neighbor]) {
+                    out[neighbor] = newDist;
+                    queue.push(neighbor, newDist);
+                }
+            }
+        }
+    }
+
+    private void touch(int cell, int d, int from) {
+        stamp[cell] = query;
+        dist[cell] = d;
+        parent[cell] = from;
+    }
+
+    private void nextQuery() {
+        if (++query == 0) { // Overflow setelah 2^32 query: reset stamp sekali
+            Arrays.fill(stamp, 0);
+            query = 1;
+        }
+    }
+}
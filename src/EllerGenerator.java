@@ -0,0 +1,158 @@
+import java.util.Arrays;
+
+/**
+ * Generator maze Eller: baris demi baris, memori O(lebar).
+ *
+ * Hanya label set milik baris saat ini yang disimpan. Setiap baris:
+ * 1. Sel tanpa set mendapat label baru.
+ * 2. Sel bertetangga dari set berbeda digabung secara acak (dinding kanan dibuka).
+ * 3. Setiap set membuka minimal satu dinding bawah, supaya tetap terhubung ke baris berikutnya.
+ * Baris terakhir (finish) menggabungkan semua set yang masih terpisah, sehingga
+ * hasil akhirnya maze sempurna. Tanpa finish, generator bisa jalan terus
+ * ("endless dungeon") dan setiap baris langsung dikirim ke RowSink.
+ */
+public class EllerGenerator {
+    private final int cols;
+    private final FastRandom rand;
+    private final int[] set;          // Label set per kolom, -1 = belum punya set
+    private final boolean[] used;     // Label yang dipakai di baris ini
+    private final boolean[] opened;   // Set sudah membuka dinding bawah
+    private final int[] seen;         // Jumlah sel per set (reservoir sampling)
+    private final int[] forced;       // Kandidat sel bawah per set jika belum ada yang terbuka
+    private final UnionFind merge;    // Dipakai ulang setiap baris (reset), bukan dialokasikan per baris
+    private final long[] eastOpen, southOpen;
+    private final byte[] terrain;
+    private double[] terrainThresholds = MazeEngine.terrainThresholds(MazeEngine.DEFAULT_TERRAIN_WEIGHTS);
+    private int row;
+    private long relaxations; // Dinding kanan + bawah yang diperiksa, untuk RunMetrics
+    private int peakSets;     // Jumlah set terbanyak dalam satu baris
+
+    public EllerGenerator(int cols, long seed) {
+        this.cols = cols;
+        this.rand = new FastRandom(seed);
+        this.set = new int[cols];
+        this.used = new boolean[cols];
+        this.opened = new boolean[cols];
+        this.seen = new int[cols];
+        this.forced = new int[cols];
+        this.merge = new UnionFind(cols);
+        this.eastOpen = new long[(cols + 63) >>> 6];
+        this.southOpen = new long[(cols + 63) >>> 6];
+        this.terrain = new byte[cols];
+        Arrays.fill(set, -1);
+    }
+
+    public int getRow() {
+        return row;
+    }
+
+    /** Bobot terrain untuk baris berikutnya, sama seperti MazeEngine.setTerrainWeights. */
+    public void setTerrainWeights(double... weights) {
+        terrainThresholds = MazeEngine.terrainThresholds(weights);
+    }
+
+    /** Dinding kanan dan bawah yang sudah diperiksa sejak generator dibuat. */
+    public long relaxations() {
+        return relaxations;
+    }
+
+    /** Jumlah set terbanyak dalam satu baris (pengganti frontier: state yang hidup per baris). */
+    public int peakFrontier() {
+        return peakSets;
+    }
+
+    /** Generate maze lengkap dengan jumlah baris tertentu. */
+    public void generate(int rows, RowSink sink) {
+        for (int y = 0; y < rows - 1; y++) {
+            Cancellation.check();
+            emitRow(sink);
+        }
+        finish(sink);
+    }
+
+    /** Generate dan kirim satu baris biasa (masih ada baris setelahnya). */
+    public void emitRow(RowSink sink) {
+        assignNewSets();
+        merge.reset();
+        Arrays.fill(eastOpen, 0L);
+        for (int x = 0; x < cols - 1; x++) {
+            if (merge.find(set[x]) != merge.find(set[x + 1]) && rand.nextInt(2) == 0) {
+                merge.union(set[x], set[x + 1]);
+                eastOpen[x >>> 6] |= 1L << x;
+            }
+        }
+        for (int x = 0; x < cols; x++) set[x] = merge.find(set[x]);
+
+        openSouth();
+        relaxations += 2L * cols - 1;
+        fillTerrain();
+        sink.acceptRow(row++, eastOpen, southOpen, terrain);
+
+        // Sel yang tidak terbuka ke bawah memulai set baru di baris berikutnya
+        for (int x = 0; x < cols; x++) {
+            if ((southOpen[x >>> 6] & (1L << x)) == 0) set[x] = -1;
+        }
+    }
+
+    /** Baris terakhir: gabungkan semua set yang masih terpisah, tanpa dinding bawah. */
+    public void finish(RowSink sink) {
+        assignNewSets();
+        merge.reset();
+        Arrays.fill(eastOpen, 0L);
+        Arrays.fill(southOpen, 0L);
+        for (int x = 0; x < cols - 1; x++) {
+            if (merge.union(set[x], set[x + 1])) eastOpen[x >>> 6] |= 1L << x;
+        }
+        relaxations += cols - 1;
+        fillTerrain();
+        sink.acceptRow(row++, eastOpen, southOpen, terrain);
+    }
+
+    private void assignNewSets() {
+        Arrays.fill(used, false);
+        int sets = 0;
+        for (int x = 0; x < cols; x++) {
+            if (set[x] >= 0 && !used[set[x]]) {
+                used[set[x]] = true;
+                sets++;
+            }
+        }
+        int free = 0;
+        for (int x = 0; x < cols; x++) {
+            if (set[x] >= 0) continue;
+            while (used[free]) free++; // Paling banyak cols set dalam satu baris, label selalu cukup
+            used[free] = true;
+            set[x] = free;
+            sets++;
+        }
+        if (sets > peakSets) peakSets = sets;
+    }
+
+    private void openSouth() {
+        Arrays.fill(southOpen, 0L);
+        Arrays.fill(opened, false);
+        Arrays.fill(seen, 0);
+        for (int x = 0; x < cols; x++) {
+            int s = set[x];
+            if (rand.nextInt(2) == 0) {
+                southOpen[x >>> 6] |= 1L << x;
+                opened[s] = true;
+            }
+            if (rand.nextInt(++seen[s]) == 0) forced[s] = x; // Pilih satu sel acak per set
+        }
+        for (int x = 0; x < cols; x++) {
+            int s = set[x];
+            if (!opened[s]) {
+                southOpen[forced[s] >>> 6] |= 1L << forced[s];
+                opened[s] = true;
+            }
+        }
+    }
+
+    private void fillTerrain() {
+        double[] thresholds = terrainThresholds;
+        for (int x = 0; x < cols; x++) {
+            terrain[x] = (byte) MazeEngine.pickTerrain(thresholds, rand.nextDouble()).ordinal();
+        }
+    }
+}
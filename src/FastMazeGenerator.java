@@ -0,0 +1,127 @@
+import java.util.Arrays;
+
+/**
+ * Generator maze untuk skala sangat besar (10k x 10k dan lebih), tanpa objek per dinding.
+ *
+ * Hasilnya maze sempurna yang sama jenisnya dengan generator di MazeEngine, tapi
+ * urutan acaknya berbeda (PRNG FastRandom, seed eksplisit) sehingga deterministik per seed.
+ */
+public final class FastMazeGenerator {
+    private FastMazeGenerator() {}
+
+    /**
+     * Randomized Prim's versi cepat:
+     * - Frontier berupa int[] berisi edge terkode {@code cell << 2 | dir}, bukan objek Wall.
+     * - Edge acak diambil dengan swap-remove O(1) (tukar dengan elemen terakhir),
+     *   bukan ArrayList.remove(index) yang O(n).
+     * - Hanya edge menuju sel yang belum masuk maze yang dimasukkan ke frontier.
+     * - Status "sudah masuk maze" disimpan sebagai bitset long[].
+     */
+    public static void prim(MazeGrid grid, long seed, StepListener listener) {
+        prim(grid, seed, listener, null);
+    }
+
+    /** Sama dengan prim(grid, seed, listener), plus counter ke stats (boleh null). */
+    public static void prim(MazeGrid grid, long seed, StepListener listener, GeneratorStats stats) {
+        int n = grid.size();
+        if (n > (Integer.MAX_VALUE >> 2)) {
+            throw new IllegalArgumentException("Grid too large for packed frontier edges: " + n + " cells");
+        }
+        FastRandom rand = new FastRandom(seed);
+        int cols = grid.cols();
+        int[] delta = {-cols, 1, cols, -1}; // Offset index per arah (TOP, RIGHT, BOTTOM, LEFT)
+        long[] inMaze = new long[(n + 63) >>> 6];
+        int[] frontier = new int[Math.max(16, Math.min(n, 1 << 20))];
+        int size = 0, peak = 0;
+        long picked = 0;
+
+        int next = rand.nextInt(n);
+        while (true) {
+            Cancellation.check();
+            inMaze[next >>> 6] |= 1L << next;
+
+            // Masukkan edge menuju tetangga yang belum masuk maze
+            int x = next % cols;
+            for (int d = 0; d < 4; d++) {
+                boolean inside = d == MazeGrid.TOP ? next >= cols
+                        : d == MazeGrid.RIGHT ? x < cols - 1
+                        : d == MazeGrid.BOTTOM ? next < n - cols
+                        : x > 0;
+                if (!inside) continue;
+                int nb = next + delta[d];
+                if ((inMaze[nb >>> 6] & (1L << nb)) != 0) continue;
+                if (size == frontier.length) frontier = Arrays.copyOf(frontier, size + (size >> 1));
+                frontier[size++] = (next << 2) | d;
+            }
+            if (size > peak) peak = size;
+
+            // Ambil edge acak sampai ketemu yang menuju sel baru
+            int edge;
+            do {
+                if (size == 0) {
+                    if (stats != null) stats.record(picked, peak);
+                    return;
+                }
+                picked++;
+                int pick = rand.nextInt(size);
+                edge = frontier[pick];
+                frontier[pick] = frontier[--size]; // Swap-remove
+                next = (edge >>> 2) + delta[edge & 3];
+            } while ((inMaze[next >>> 6] & (1L << next)) != 0);
+
+            grid.openWall(edge >>> 2, edge & 3);
+            listener.onStep(StepListener.CARVE, next);
+        }
+    }
+
+    /**
+     * Randomized Kruskal's versi cepat:
+     * - Edge dikodekan sebagai int {@code cell << 1 | (0 = kanan, 1 = bawah)} dalam satu int[],
+     *   hanya edge di dalam grid, lalu diacak di tempat dengan Fisher-Yates.
+     * - UnionFind berbasis int[] (union-by-size + path halving, iteratif).
+     * - Berhenti begitu n - 1 dinding terbuka: maze sudah menjadi spanning tree.
+     * Fisher-Yates dilakukan lazy (tukar sambil jalan), jadi edge setelah
+     * early-termination tidak perlu diacak sama sekali.
+     */
+    public static void kruskal(MazeGrid grid, long seed, StepListener listener) {
+        kruskal(grid, seed, listener, null);
+    }
+
+    /** Sama dengan kruskal(grid, seed, listener), plus counter ke stats (boleh null). */
+    public static void kruskal(MazeGrid grid, long seed, StepListener listener, GeneratorStats stats) {
+        int n = grid.size();
+        if (n > (Integer.MAX_VALUE >> 1)) {
+            throw new IllegalArgumentException("Grid too large for packed edges: " + n + " cells");
+        }
+        int cols = grid.cols(), rows = grid.rows();
+        FastRandom rand = new FastRandom(seed);
+
+        int[] edges = new int[(cols - 1) * rows + cols * (rows - 1)];
+        int count = 0;
+        for (int cell = 0; cell < n; cell++) {
+            if (cell % cols < cols - 1) edges[count++] = cell << 1;
+            if (cell < n - cols) edges[count++] = (cell << 1) | 1;
+        }
+
+        UnionFind ds = new UnionFind(n);
+        int remaining = n - 1;
+        int i = 0;
+        for (; i < count && remaining > 0; i++) {
+            Cancellation.check();
+            int j = i + rand.nextInt(count - i); // Fisher-Yates: pilih dari sisa yang belum diacak
+            int edge = edges[j];
+            edges[j] = edges[i];
+            edges[i] = edge;
+
+            int cell = edge >>> 1;
+            boolean down = (edge & 1) != 0;
+            int other = down ? cell + cols : cell + 1;
+            if (ds.union(cell, other)) {
+                grid.openWall(cell, down ? MazeGrid.BOTTOM : MazeGrid.RIGHT);
+                listener.onStep(StepListener.CARVE, other);
+                remaining--;
+            }
+        }
+        if (stats != null) stats.record(i, count);
+    }
+}
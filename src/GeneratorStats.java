@@ -0,0 +1,25 @@
+/**
+ * Counter satu run generator statis (FastMazeGenerator, TiledMazeGenerator) untuk RunMetrics.
+ *
+ * - relaxations  : dinding / edge kandidat yang diperiksa.
+ * - peakFrontier : ukuran maksimum frontier (Prim) atau daftar edge (Kruskal).
+ * record() boleh dipanggil dari beberapa thread (tile paralel): relaxations
+ * dijumlahkan, peakFrontier diambil maksimumnya.
+ */
+public final class GeneratorStats {
+    private long relaxations;
+    private long peakFrontier;
+
+    public synchronized void record(long relaxations, long peakFrontier) {
+        this.relaxations += relaxations;
+        if (peakFrontier > this.peakFrontier) this.peakFrontier = peakFrontier;
+    }
+
+    public synchronized long relaxations() {
+        return relaxations;
+    }
+
+    public synchronized long peakFrontier() {
+        return peakFrontier;
+    }
+}
@@ -0,0 +1,49 @@
+/**
+ * Estimasi cost dari sel {@code from} ke sel {@code to} untuk A*.
+ *
+ * Cost jalur = jumlah Terrain.cost sel yang dimasuki (start tidak dihitung).
+ * Heuristic yang admissible tidak pernah melebihi cost sebenarnya, sehingga
+ * A* tetap menemukan jalur optimal.
+ */
+public interface Heuristic {
+    int estimate(int from, int to);
+
+    /** Selalu 0: admissible, tapi A* menjadi sama dengan Dijkstra. */
+    Heuristic ZERO = (from, to) -> 0;
+
+    /**
+     * Manhattan murni (heuristic A* lama). TIDAK admissible karena DIRT cost 0:
+     * satu langkah bisa bernilai 0, jadi A* bisa mengembalikan jalur non-optimal.
+     */
+    static Heuristic manhattan(MazeGrid grid) {
+        return (from, to) -> Math.abs(grid.x(from) - grid.x(to)) + Math.abs(grid.y(from) - grid.y(to));
+    }
+
+    /**
+     * Manhattan dikali cost terrain termurah yang ada di grid. Setiap langkah
+     * minimal memasuki satu sel, jadi estimasi ini tidak pernah melebihi cost
+     * sebenarnya. Jika grid berisi DIRT (cost 0) hasilnya sama dengan ZERO.
+     */
+    static Heuristic scaledManhattan(MazeGrid grid) {
+        int minCost = Integer.MAX_VALUE;
+        int n = grid.size();
+        for (int i = 0; i < n && minCost > 0; i++) minCost = Math.min(minCost, grid.cost(i));
+        if (minCost == 0 || minCost == Integer.MAX_VALUE) return ZERO;
+        int scale = minCost;
+        return (from, to) -> scale * (Math.abs(grid.x(from) - grid.x(to)) + Math.abs(grid.y(from) - grid.y(to)));
+    }
+
+    /**
+     * Buat heuristic berdasarkan nama: "Zero", "Manhattan", "Scaled", atau "ALT"
+     * (landmark dengan jumlah default LandmarkHeuristic.DEFAULT_LANDMARKS).
+     */
+    static Heuristic create(String name, MazeGrid grid) {
+        switch (name) {
+            case "Zero": return ZERO;
+            case "Manhattan": return manhattan(grid);
+            case "Scaled": return scaledManhattan(grid);
+            case "ALT": return LandmarkHeuristic.build(grid, LandmarkHeuristic.DEFAULT_LANDMARKS);
+            default: throw new IllegalArgumentException("Unknown heuristic: " + name);
+        }
+    }
+}
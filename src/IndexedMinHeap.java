@@ -0,0 +1,110 @@
+import java.util.Arrays;
+
+/**
+ * Binary min-heap berindeks untuk item 0..capacity-1 (index sel) dengan key int.
+ *
+ * pos[item] menyimpan posisi item di dalam heap sehingga decrease-key bisa
+ * dilakukan di tempat, tanpa memasukkan duplikat. Semua storage dialokasikan
+ * sekali di konstruktor.
+ */
+public class IndexedMinHeap {
+    private final int[] heap; // heap[i] = item
+    private final int[] pos;  // pos[item] = posisi di heap, -1 jika tidak ada
+    private final int[] key;  // key[item]
+    private int size;
+
+    public IndexedMinHeap(int capacity) {
+        heap = new int[capacity];
+        pos = new int[capacity];
+        key = new int[capacity];
+        Arrays.fill(pos, -1);
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean contains(int item) {
+        return pos[item] >= 0;
+    }
+
+    public int keyOf(int item) {
+        return key[item];
+    }
+
+    /** Kosongkan heap; O(size) karena hanya item yang masih ada yang di-reset. */
+    public void clear() {
+        for (int i = 0; i < size; i++) pos[heap[i]] = -1;
+        size = 0;
+    }
+
+    public void insert(int item, int k) {
+        key[item] = k;
+        heap[size] = item;
+        pos[item] = size;
+        siftUp(size++);
+    }
+
+    /** Turunkan key item yang sudah ada di heap. */
+    public void decreaseKey(int item, int k) {
+        key[item] = k;
+        siftUp(pos[item]);
+    }
+
+    /** Insert jika belum ada, atau decrease-key jika key baru lebih kecil. */
+    public void insertOrDecrease(int item, int k) {
+        if (pos[item] < 0) insert(item, k);
+        else if (k < key[item]) decreaseKey(item, k);
+    }
+
+    public int peekKey() {
+        return key[heap[0]];
+    }
+
+    public int pop() {
+        int top = heap[0];
+        pos[top] = -1;
+        if (--size > 0) {
+            heap[0] = heap[size];
+            pos[heap[0]] = 0;
+            siftDown(0);
+        }
+        return top;
+    }
+
+    private void siftUp(int i) {
+        int item = heap[i];
+        int k = key[item];
+        while (i > 0) {
+            int p = (i - 1) >>> 1;
+            int parentItem = heap[p];
+            if (key[parentItem] <= k) break;
+            heap[i] = parentItem;
+            pos[parentItem] = i;
+            i = p;
+        }
+        heap[i] = item;
+        pos[item] = i;
+    }
+
+    private void siftDown(int i) {
+        int item = heap[i];
+        int k = key[item];
+        int half = size >>> 1;
+        while (i < half) {
+            int c = 2 * i + 1;
+            int r = c + 1;
+            if (r < size && key[heap[r]] < key[heap[c]]) c = r;
+            if (k <= key[heap[c]]) break;
+            heap[i] = heap[c];
+            pos[heap[i]] = i;
+            i = c;
+        }
+        heap[i] = item;
+        pos[item] = i;
+    }
+}
@@ -0,0 +1,123 @@
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Satu thread worker untuk semua job UI (generate / solve), menggantikan
+ * new Thread per klik.
+ *
+ * Kebijakan "newest request wins": submit() secara atomik menjadikan job baru
+ * sebagai job aktif dan membatalkan job sebelumnya (interrupt + flag). Karena
+ * hanya ada satu thread, job baru baru mulai setelah job lama benar-benar keluar,
+ * jadi dua job tidak pernah menyentuh engine yang sama bersamaan.
+ *
+ * Pembatalan bersifat kooperatif: loop algoritma memanggil Cancellation.check(),
+ * dan StepRing berhenti menunggu slot saat thread di-interrupt.
+ */
+public class JobScheduler implements AutoCloseable {
+    private final ExecutorService executor;
+    private final AtomicReference<Job> current = new AtomicReference<>();
+
+    public JobScheduler(String threadName) {
+        this.executor = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, threadName);
+            t.setDaemon(true); // Jangan tahan JVM saat window ditutup
+            return t;
+        });
+    }
+
+    /** Handle satu job yang sudah dijadwalkan. */
+    public static final class Job {
+        private final Runnable task;
+        private final CountDownLatch exited = new CountDownLatch(1);
+        private Thread runner;            // Dijaga oleh lock job ini (this)
+        private volatile boolean cancelled;
+
+        private Job(Runnable task) {
+            this.task = task;
+        }
+
+        private void run() {
+            try {
+                synchronized (this) {
+                    if (cancelled) return; // Sudah digantikan sebelum sempat mulai
+                    runner = Thread.currentThread();
+                }
+                task.run();
+            } catch (CancellationException e) {
+                // Berhenti kooperatif; job penggantinya sudah dijadwalkan
+            } finally {
+                // Setelah runner dilepas di bawah lock, cancel() tidak bisa lagi meng-interrupt
+                // thread ini, jadi interrupt yang telat tidak mengenai job berikutnya
+                synchronized (this) {
+                    runner = null;
+                }
+                Thread.interrupted(); // Buang interrupt milik job ini sebelum job berikutnya
+                exited.countDown();
+            }
+        }
+
+        /** Minta job berhenti; tidak menunggu. */
+        public void cancel() {
+            synchronized (this) {
+                cancelled = true;
+                if (runner != null) runner.interrupt(); // Hanya selama thread masih menjalankan job ini
+            }
+        }
+
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        /** True jika job sudah keluar (selesai, gagal, atau dibatalkan). */
+        public boolean isDone() {
+            return exited.getCount() == 0;
+        }
+
+        /**
+         * Tunggu job keluar, maksimal timeoutMillis. Interrupt saat menunggu
+         * tidak ditelan: status interrupt dipulihkan dan false dikembalikan.
+         */
+        public boolean await(long timeoutMillis) {
+            try {
+                return exited.await(timeoutMillis, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+    }
+
+    /** Jadwalkan task sebagai job aktif; job aktif sebelumnya dibatalkan. */
+    public Job submit(Runnable task) {
+        Job job = new Job(task);
+        Job previous = current.getAndSet(job);
+        if (previous != null) previous.cancel();
+        executor.execute(job::run);
+        return job;
+    }
+
+    /** Batalkan job aktif (jika ada) dan tunggu sampai keluar, maksimal timeoutMillis. */
+    public boolean cancelCurrent(long timeoutMillis) {
+        Job job = current.getAndSet(null);
+        if (job == null) return true;
+        job.cancel();
+        return job.await(timeoutMillis);
+    }
+
+    /** True jika ada job yang belum keluar. */
+    public boolean isBusy() {
+        Job job = current.get();
+        return job != null && !job.isDone();
+    }
+
+    @Override
+    public void close() {
+        Job job = current.getAndSet(null);
+        if (job != null) job.cancel();
+        executor.shutdownNow();
+    }
+}
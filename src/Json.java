@@ -0,0 +1,31 @@
+import java.util.Locale;
+
+/**
+ * Helper JSON kecil untuk output yang dirakit tangan (MazeServer, MazeBatch);
+ * angka dan boolean cukup di-append langsung ke StringBuilder.
+ */
+final class Json {
+    private Json() {}
+
+    /** Tambahkan s sebagai string JSON (dengan kutip dan escape). */
+    static void appendString(StringBuilder json, String s) {
+        json.append('"');
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            switch (c) {
+                case '"': json.append("\\\""); break;
+                case '\\': json.append("\\\\"); break;
+                case '\n': json.append("\\n"); break;
+                case '\r': json.append("\\r"); break;
+                case '\t': json.append("\\t"); break;
+                default:
+                    if (c < 0x20) {
+                        json.append(String.format(Locale.ROOT, "\\u%04x", (int) c));
+                    } else {
+                        json.append(c);
+                    }
+            }
+        }
+        json.append('"');
+    }
+}
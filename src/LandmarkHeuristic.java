@@ -0,0 +1,82 @@
+import java.util.Arrays;
+
+/**
+ * Heuristic ALT (A*, Landmarks, Triangle inequality).
+ *
+ * Sekali per maze: pilih K landmark (farthest-point) lalu hitung jarak exact
+ * dari setiap landmark L ke semua sel dengan DialDijkstra. Saat query:
+ *   d(a,b) >= d(L,b) - d(L,a)
+ *   d(a,b) >= d(a,L) - d(b,L)
+ * Cost dihitung saat memasuki sel, jadi jarak balik cukup diturunkan dari tabel
+ * yang sama: d(v,L) = d(L,v) - cost(v) + cost(L). Batas ini admissible dan
+ * konsisten, dan jauh lebih ketat daripada Manhattan saat ada DIRT (cost 0).
+ *
+ * Memori: K * n int. Tabel hanya dibaca saat query, jadi aman dipakai bersama antar thread.
+ */
+public class LandmarkHeuristic implements Heuristic {
+    public static final int DEFAULT_LANDMARKS = 8;
+
+    private final MazeGrid grid;
+    private final int[] landmarks;
+    private final int[][] dist; // dist[k][v] = d(landmark k, v)
+
+    private LandmarkHeuristic(MazeGrid grid, int[] landmarks, int[][] dist) {
+        this.grid = grid;
+        this.landmarks = landmarks;
+        this.dist = dist;
+    }
+
+    /**
+     * Pilih landmark secara farthest-point: mulai dari sel terjauh dari sel 0,
+     * lalu setiap landmark berikutnya adalah sel yang jarak minimumnya ke
+     * landmark terpilih paling besar (landmark di pinggir maze memberi batas terbaik).
+     */
+    public static LandmarkHeuristic build(MazeGrid grid, int k) {
+        int n = grid.size();
+        k = Math.max(1, Math.min(k, n));
+        DialDijkstra dijkstra = new DialDijkstra(grid);
+
+        int[] landmarks = new int[k];
+        int[][] dist = new int[k][n];
+        int[] nearest = new int[n]; // min jarak ke landmark yang sudah dipilih
+
+        dijkstra.distancesFrom(0, nearest);
+        int next = farthest(nearest);
+        Arrays.fill(nearest, Integer.MAX_VALUE);
+
+        for (int i = 0; i < k; i++) {
+            landmarks[i] = next;
+            dijkstra.distancesFrom(next, dist[i]);
+            for (int v = 0; v < n; v++) nearest[v] = Math.min(nearest[v], dist[i][v]);
+            next = farthest(nearest);
+        }
+        return new LandmarkHeuristic(grid, landmarks, dist);
+    }
+
+    private static int farthest(int[] d) {
+        int best = 0;
+        for (int v = 1; v < d.length; v++) {
+            if (d[v] != Integer.MAX_VALUE && (d[best] == Integer.MAX_VALUE || d[v] > d[best])) best = v;
+        }
+        return best;
+    }
+
+    public int[] getLandmarks() {
+        return landmarks.clone();
+    }
+
+    @Override
+    public int estimate(int from, int to) {
+        int best = 0;
+        int costFrom = grid.cost(from), costTo = grid.cost(to);
+        for (int[] d : dist) {
+            int da = d[from], db = d[to];
+            if (da == Integer.MAX_VALUE || db == Integer.MAX_VALUE) continue;
+            int forward = db - da;                        // L -> a -> b
+            int backward = (da - costFrom) - (db - costTo); // a -> b -> L
+            if (forward > best) best = forward;
+            if (backward > best) best = backward;
+        }
+        return best;
+    }
+}
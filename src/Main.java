@@ -1,7 +1,21 @@
+import java.util.Arrays;
 import javax.swing.SwingUtilities;
 
 public class Main {
-    public static void main(String[] args) {
+    /**
+     * Tanpa argumen: buka game Swing.
+     * "serve [opsi]": jalankan MazeServer (HTTP/JSON, headless), lihat MazeServer.main.
+     * "batch [opsi]": generate + solve banyak seed ke JSON lines / CSV, lihat MazeBatch.main.
+     */
+    public static void main(String[] args) throws Exception {
+        if (args.length > 0 && args[0].equals("serve")) {
+            MazeServer.main(Arrays.copyOfRange(args, 1, args.length));
+            return;
+        }
+        if (args.length > 0 && args[0].equals("batch")) {
+            MazeBatch.main(Arrays.copyOfRange(args, 1, args.length));
+            return;
+        }
         SwingUtilities.invokeLater(() -> new MazeGame());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,97 @@
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
+
+/**
+ * MazeGrid read-only di atas file dungeon yang di-mmap (lihat MazeFile).
+ * Layout bit sama dengan PackedGrid; setiap isOpen/cost dibaca langsung dari
+ * mapping, jadi membuka maze multi-gigabyte tidak menyalin apa pun ke heap.
+ * Aman dipakai banyak thread sekaligus (hanya akses absolut).
+ */
+public class MappedGrid implements MazeGrid {
+    private static final Terrain[] TERRAINS = Terrain.values();
+
+    private final MazeFile.Header header;
+    private final int cols, rows;
+    private final LongBuffer eastOpen;
+    private final LongBuffer southOpen;
+    private final ByteBuffer terrain;
+
+    MappedGrid(MazeFile.Header header, LongBuffer eastOpen, LongBuffer southOpen, ByteBuffer terrain) {
+        this.header = header;
+        this.cols = header.cols;
+        this.rows = header.rows;
+        this.eastOpen = eastOpen;
+        this.southOpen = southOpen;
+        this.terrain = terrain;
+    }
+
+    public MazeFile.Header getHeader() {
+        return header;
+    }
+
+    /** Salin isi file ke grid lain yang bisa diubah (misal CellGrid milik UI). */
+    public void copyInto(MazeGrid dst) {
+        if (dst.cols() != cols || dst.rows() != rows) {
+            throw new IllegalArgumentException("Grid size mismatch: " + dst.cols() + "x" + dst.rows()
+                    + " vs " + cols + "x" + rows);
+        }
+        dst.clear();
+        int n = size();
+        for (int i = 0; i < n; i++) {
+            if (bit(eastOpen, i)) dst.openWall(i, RIGHT);
+            if (bit(southOpen, i)) dst.openWall(i, BOTTOM);
+            dst.setTerrain(i, getTerrain(i));
+        }
+    }
+
+    @Override
+    public int cols() { return cols; }
+
+    @Override
+    public int rows() { return rows; }
+
+    @Override
+    public boolean isOpen(int index, int dir) {
+        switch (dir) {
+            case TOP: return index >= cols && bit(southOpen, index - cols);
+            // Bit tepi dari file rusak diabaikan, supaya solver tidak keluar grid
+            case RIGHT: return index % cols != cols - 1 && bit(eastOpen, index);
+            case BOTTOM: return index < size() - cols && bit(southOpen, index);
+            case LEFT: return index % cols != 0 && bit(eastOpen, index - 1);
+            default: return false;
+        }
+    }
+
+    /**
+     * Terrain sel ini. Byte di luar Terrain.values() (file rusak) di-clamp ke terrain
+     * terakhir (WATER), karena terrain tidak divalidasi saat membuka file.
+     */
+    @Override
+    public Terrain getTerrain(int index) {
+        return TERRAINS[Math.min(terrain.get(index) & 0xFF, TERRAINS.length - 1)];
+    }
+
+    @Override
+    public int cost(int index) {
+        return getTerrain(index).cost;
+    }
+
+    @Override
+    public void openWall(int index, int dir) {
+        throw new UnsupportedOperationException("Mapped dungeon file is read-only");
+    }
+
+    @Override
+    public void setTerrain(int index, Terrain t) {
+        throw new UnsupportedOperationException("Mapped dungeon file is read-only");
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException("Mapped dungeon file is read-only");
+    }
+
+    private static boolean bit(LongBuffer bits, int i) {
+        return (bits.get(i >>> 6) & (1L << i)) != 0;
+    }
+}
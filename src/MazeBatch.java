@@ -0,0 +1,302 @@
+import java.io.BufferedWriter;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Mode batch tanpa UI: generate satu maze per seed, solve dengan satu atau lebih
+ * solver, lalu tulis satu record per maze (JSON lines atau CSV).
+ *
+ *   java Main batch --seeds 1..10000 --cols 128 --rows 128 --generator FastPrim
+ *                   --terrain 50,25,15,10 --solvers A*,Dial --format csv --out runs.csv
+ *
+ * Maze dikerjakan paralel (satu MazeEngine + PackedGrid per thread, dipakai ulang
+ * untuk setiap seed), tetapi record selalu ditulis berurutan menurut seed: thread
+ * pemanggil menunggu Future paling depan, menulisnya, lalu mengirim seed berikutnya.
+ * Jumlah maze yang sedang dikerjakan dibatasi beberapa kali jumlah thread, jadi
+ * memori tidak tumbuh dengan panjang range seed. Isi record (cost, jalur, expanded)
+ * identik untuk seed yang sama; hanya kolom waktu yang berubah antar run.
+ *
+ * Waktu solve tidak termasuk membangun cache read-only solver (heuristic ALT,
+ * graph koridor, index tree), yang dibangun dulu lewat MazeEngine.prepare.
+ */
+public final class MazeBatch {
+    public static final String JSONL = "jsonl";
+    public static final String CSV = "csv";
+
+    private static final int IN_FLIGHT_PER_THREAD = 4;
+
+    /** Parameter satu batch; lihat main() untuk nama argumen. */
+    public static final class Options {
+        public long firstSeed = 1;
+        public long lastSeed = 100;
+        public int cols = 35;
+        public int rows = 25;
+        public String generator = "FastPrim";
+        public double[] terrainWeights = MazeEngine.DEFAULT_TERRAIN_WEIGHTS.clone();
+        public String[] solvers = {"A*"};
+        public String heuristic = MazeEngine.DEFAULT_HEURISTIC;
+        public String format = JSONL;
+        public Path out; // null = stdout
+        public int threads = Runtime.getRuntime().availableProcessors();
+    }
+
+    private final Options options;
+    private final ThreadLocal<MazeEngine> engines;
+
+    public MazeBatch(Options options) {
+        if (options.firstSeed > options.lastSeed) {
+            throw new IllegalArgumentException("Empty seed range: " + options.firstSeed + ".." + options.lastSeed);
+        }
+        if (options.lastSeed - options.firstSeed < 0 || options.lastSeed - options.firstSeed == Long.MAX_VALUE) {
+            throw new IllegalArgumentException("Seed range too large");
+        }
+        if (options.cols < 2 || options.rows < 2) {
+            throw new IllegalArgumentException("Maze must be at least 2x2");
+        }
+        if (!MazeEngine.GENERATORS.contains(options.generator)) {
+            throw new IllegalArgumentException("Unknown generator: " + options.generator);
+        }
+        for (String solver : options.solvers) {
+            if (!MazeEngine.SOLVERS.contains(solver)) throw new IllegalArgumentException("Unknown solver: " + solver);
+        }
+        if (!MazeEngine.HEURISTICS.contains(options.heuristic)) {
+            throw new IllegalArgumentException("Unknown heuristic: " + options.heuristic);
+        }
+        if (!options.format.equals(JSONL) && !options.format.equals(CSV)) {
+            throw new IllegalArgumentException("Unknown format: " + options.format + " (jsonl or csv)");
+        }
+        if (options.threads < 1) throw new IllegalArgumentException("Thread count must be >= 1");
+        this.options = options;
+        this.engines = ThreadLocal.withInitial(this::newEngine);
+        newEngine(); // Validasi bobot terrain sebelum thread mana pun mulai
+    }
+
+    private MazeEngine newEngine() {
+        MazeEngine engine = new MazeEngine(new PackedGrid(options.cols, options.rows));
+        engine.setHeuristic(options.heuristic);
+        engine.setTerrainWeights(options.terrainWeights);
+        return engine;
+    }
+
+    /**
+     * Jalankan seluruh range seed dan tulis record ke out (termasuk header CSV).
+     * Writer tidak ditutup. Kembalikan jumlah record yang ditulis.
+     */
+    public long run(Writer out) throws IOException {
+        boolean csv = options.format.equals(CSV);
+        if (csv) out.write(csvHeader());
+
+        ExecutorService pool = Executors.newFixedThreadPool(options.threads, r -> {
+            Thread t = new Thread(r, "batch-worker");
+            t.setDaemon(true);
+            return t;
+        });
+        ArrayDeque<Future<String>> pending = new ArrayDeque<>();
+        long total = options.lastSeed - options.firstSeed + 1;
+        long submitted = 0, written = 0;
+        int window = options.threads * IN_FLIGHT_PER_THREAD;
+        try {
+            while (true) {
+                while (pending.size() < window && submitted < total) {
+                    long seed = options.firstSeed + submitted++;
+                    pending.add(pool.submit(() -> record(seed, csv)));
+                }
+                Future<String> head = pending.poll();
+                if (head == null) break;
+                out.write(head.get()); // Urutan tulis = urutan seed, berapa pun thread-nya
+                written++;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            CancellationException cancelled = new CancellationException("Batch cancelled");
+            cancelled.initCause(e);
+            throw cancelled;
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Batch run failed", e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+        return written;
+    }
+
+    /** Generate + solve satu seed di thread worker, kembalikan record yang sudah diformat. */
+    private String record(long seed, boolean csv) {
+        MazeEngine engine = engines.get();
+        engine.generate(options.generator, seed, StepListener.NONE);
+        RunMetrics generated = engine.getLastMetrics();
+        SolveResult[] results = new SolveResult[options.solvers.length];
+        RunMetrics[] metrics = new RunMetrics[options.solvers.length];
+        for (int s = 0; s < options.solvers.length; s++) {
+            engine.prepare(options.solvers[s]);
+            results[s] = engine.solve(options.solvers[s], StepListener.NONE);
+            metrics[s] = engine.getLastMetrics();
+        }
+        return csv ? csvRecord(seed, engine, generated, results, metrics)
+                : jsonRecord(seed, engine, generated, results, metrics);
+    }
+
+    // --- FORMAT ---
+
+    private String jsonRecord(long seed, MazeEngine engine, RunMetrics generated, SolveResult[] results, RunMetrics[] metrics) {
+        int cols = options.cols;
+        StringBuilder sb = new StringBuilder(160 + 120 * results.length);
+        sb.append("{\"seed\":").append(seed)
+                .append(",\"cols\":").append(cols)
+                .append(",\"rows\":").append(options.rows)
+                .append(",\"generator\":");
+        Json.appendString(sb, options.generator);
+        sb.append(",\"heuristic\":");
+        Json.appendString(sb, options.heuristic);
+        sb.append(",\"start\":[").append(engine.getStartCell() % cols).append(',').append(engine.getStartCell() / cols)
+                .append("],\"exit\":[").append(engine.getEndCell() % cols).append(',').append(engine.getEndCell() / cols)
+                .append("],\"generateNanos\":").append(generated.nanos)
+                .append(",\"solvers\":{");
+        for (int s = 0; s < results.length; s++) {
+            if (s > 0) sb.append(',');
+            Json.appendString(sb, options.solvers[s]);
+            sb.append(":{\"found\":").append(results[s].found())
+                    .append(",\"cost\":").append(results[s].cost)
+                    .append(",\"length\":").append(results[s].path.length)
+                    .append(",\"expanded\":").append(results[s].explored)
+                    .append(",\"relaxations\":").append(metrics[s].relaxations)
+                    .append(",\"peakFrontier\":").append(metrics[s].peakFrontier)
+                    .append(",\"nanos\":").append(metrics[s].nanos)
+                    .append('}');
+        }
+        return sb.append("}}\n").toString();
+    }
+
+    private String csvHeader() {
+        StringBuilder sb = new StringBuilder("seed,cols,rows,generator,heuristic,start_x,start_y,exit_x,exit_y,generate_nanos");
+        for (String solver : options.solvers) {
+            for (String column : new String[] {"found", "cost", "length", "expanded", "relaxations", "peak_frontier", "nanos"}) {
+                sb.append(',').append(csvField(solver + "_" + column));
+            }
+        }
+        return sb.append('\n').toString();
+    }
+
+    private String csvRecord(long seed, MazeEngine engine, RunMetrics generated, SolveResult[] results, RunMetrics[] metrics) {
+        int cols = options.cols;
+        StringBuilder sb = new StringBuilder(96 + 64 * results.length);
+        sb.append(seed).append(',').append(cols).append(',').append(options.rows).append(',')
+                .append(csvField(options.generator)).append(',')
+                .append(csvField(options.heuristic)).append(',')
+                .append(engine.getStartCell() % cols).append(',').append(engine.getStartCell() / cols).append(',')
+                .append(engine.getEndCell() % cols).append(',').append(engine.getEndCell() / cols).append(',')
+                .append(generated.nanos);
+        for (int s = 0; s < results.length; s++) {
+            sb.append(',').append(results[s].found())
+                    .append(',').append(results[s].cost)
+                    .append(',').append(results[s].path.length)
+                    .append(',').append(results[s].explored)
+                    .append(',').append(metrics[s].relaxations)
+                    .append(',').append(metrics[s].peakFrontier)
+                    .append(',').append(metrics[s].nanos);
+        }
+        return sb.append('\n').toString();
+    }
+
+    /** Field CSV (RFC 4180): dikutip jika mengandung koma, kutip, atau newline. */
+    private static String csvField(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0) return value;
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    // --- MAIN ---
+
+    private static final String USAGE = String.join("\n",
+            "Usage: java Main batch [options]",
+            "  --seeds A..B          seed range, inclusive (default 1..100); a single number = one maze",
+            "  --cols N --rows N     maze size (default 35 x 25)",
+            "  --generator NAME      FastPrim (default), FastKruskal, Prim's, Kruskal's, Eller, Tiled",
+            "  --terrain D,G,M,W     relative weights of DIRT, GRASS, MUD, WATER (default 50,25,15,10)",
+            "  --solvers A,B,...     BFS, DFS, Dijkstra, A* (default), Dial, HeapA*, CorridorBFS,",
+            "                        CorridorDijkstra, CorridorA*, BiBFS, BiDijkstra, BiA*, Tree",
+            "  --heuristic NAME      A* heuristic: ALT (default), Scaled, Zero, Manhattan",
+            "  --format jsonl|csv    output format (default from --out extension, else jsonl)",
+            "  --out FILE            output file (default stdout)",
+            "  --threads N           worker threads (default: one per core)");
+
+    public static void main(String[] args) throws IOException {
+        Options options;
+        MazeBatch batch;
+        try {
+            options = parse(args);
+            batch = new MazeBatch(options);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(USAGE);
+            System.exit(2);
+            return;
+        }
+
+        long started = System.nanoTime();
+        long written;
+        Writer out = options.out != null
+                ? Files.newBufferedWriter(options.out, StandardCharsets.UTF_8)
+                : new BufferedWriter(new OutputStreamWriter(new FileOutputStream(FileDescriptor.out), StandardCharsets.UTF_8), 1 << 16);
+        try {
+            written = batch.run(out);
+        } finally {
+            if (options.out != null) out.close();
+            else out.flush(); // stdout jangan ditutup
+        }
+        System.err.printf("Wrote %d records in %.2f s (%d threads)%n",
+                written, (System.nanoTime() - started) / 1e9, options.threads);
+    }
+
+    static Options parse(String[] args) {
+        Options options = new Options();
+        String format = null;
+        for (int i = 0; i < args.length; i++) {
+            String flag = args[i];
+            if (i + 1 >= args.length) throw new IllegalArgumentException("Missing value for " + flag);
+            String value = args[++i];
+            try {
+                switch (flag) {
+                    case "--seeds": {
+                        int dots = value.indexOf("..");
+                        options.firstSeed = Long.parseLong(dots < 0 ? value : value.substring(0, dots));
+                        options.lastSeed = dots < 0 ? options.firstSeed : Long.parseLong(value.substring(dots + 2));
+                        break;
+                    }
+                    case "--cols": options.cols = Integer.parseInt(value); break;
+                    case "--rows": options.rows = Integer.parseInt(value); break;
+                    case "--generator": options.generator = value; break;
+                    case "--terrain":
+                        options.terrainWeights = Arrays.stream(value.split(",")).mapToDouble(Double::parseDouble).toArray();
+                        break;
+                    case "--solvers": options.solvers = value.split(","); break;
+                    case "--heuristic": options.heuristic = value; break;
+                    case "--format": format = value; break;
+                    case "--out": options.out = Paths.get(value); break;
+                    case "--threads": options.threads = Integer.parseInt(value); break;
+                    default: throw new IllegalArgumentException("Unknown option: " + flag);
+                }
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid number for " + flag + ": " + value);
+            }
+        }
+        if (format != null) {
+            options.format = format;
+        } else if (options.out != null && options.out.toString().endsWith(".csv")) {
+            options.format = CSV;
+        }
+        return options;
+    }
+}
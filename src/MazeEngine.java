@@ -0,0 +1,696 @@
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.List;
+
+/**
+ * Engine maze tanpa Swing: model grid + generator + solver.
+ * Semua algoritma berjalan secepat CPU; animasi (jika perlu) dilakukan oleh
+ * StepListener milik pemanggil, misalnya MazePanel.
+ *
+ * Engine bekerja langsung di atas MazeGrid (index {@code y * cols + x}), jadi
+ * bisa dipakai dengan CellGrid milik UI maupun PackedGrid untuk maze raksasa.
+ * State pencarian (visited, parent, jarak) disimpan di array lokal per solve,
+ * bukan di Cell.
+ */
+public class MazeEngine {
+    /** Nama algoritma yang diterima generate(). */
+    public static final Set<String> GENERATORS = names("Prim's", "Kruskal's", "FastPrim", "FastKruskal", "Eller", "Tiled");
+    /** Nama solver yang diterima solve() dan prepare(). */
+    public static final Set<String> SOLVERS = names("BFS", "DFS", "Dijkstra", "A*", "Dial", "HeapA*",
+            "CorridorBFS", "CorridorDijkstra", "CorridorA*", "BiBFS", "BiDijkstra", "BiA*", "Tree");
+    /** Nama heuristic yang diterima setHeuristic(). */
+    public static final Set<String> HEURISTICS = names("Zero", "Manhattan", "Scaled", "ALT");
+    /** Heuristic A* default: ALT. Scaled selalu jatuh ke Zero karena DIRT berharga 0. */
+    public static final String DEFAULT_HEURISTIC = "ALT";
+
+    private static Set<String> names(String... names) {
+        return Collections.unmodifiableSet(new LinkedHashSet<>(Arrays.asList(names)));
+    }
+
+    private final MazeGrid grid;
+    private final Random rand;
+
+    private DialDijkstra dial; // Workspace Dial, dibuat saat pertama dipakai
+    private AStarSearch aStar; // Workspace A* berindeks, dibuat saat pertama dipakai
+    private BidirectionalSearch bidirectional; // Workspace solver dua arah
+
+    private String heuristicName = DEFAULT_HEURISTIC;
+    private Heuristic heuristic; // Cache; dibangun ulang setelah maze berubah
+    private CorridorGraph corridorGraph; // Cache graph junction; dibangun ulang setelah maze berubah
+    private CorridorGraph.Search corridors;
+    private TreeIndex treeIndex;  // Null jika belum dibangun atau maze punya loop
+    private boolean treeChecked;
+
+    private static final Terrain[] TERRAINS = Terrain.values();
+    /** Bobot default DIRT, GRASS, MUD, WATER (50/25/15/10 %). */
+    static final double[] DEFAULT_TERRAIN_WEIGHTS = {50, 25, 15, 10}; // Jangan diubah: dibagi sebagai default
+    private double[] terrainWeights = DEFAULT_TERRAIN_WEIGHTS;
+    // Batas kumulatif peluang tiap terrain kecuali yang terakhir
+    private double[] terrainThresholds = terrainThresholds(DEFAULT_TERRAIN_WEIGHTS);
+
+    private int startCell = -1;
+    private int endCell = -1;
+    private long seed;        // Seed generate terakhir, disimpan ke file dungeon
+    private String generator = "";
+
+    // Instrumentasi run terakhir (lihat RunMetrics); counter diisi solver yang menghitungnya
+    private RunMetrics lastMetrics;
+    private long lastRelaxations = -1, lastPeakFrontier = -1;
+
+    public MazeEngine(MazeGrid grid) {
+        this(grid, new Random());
+    }
+
+    public MazeEngine(MazeGrid grid, Random rand) {
+        this.grid = grid;
+        this.rand = rand;
+    }
+
+    public void initGrid() {
+        grid.clear();
+        mazeChanged();
+        startCell = -1;
+        endCell = -1;
+    }
+
+    public MazeGrid getGrid() { return grid; }
+    public int getStartCell() { return startCell; }
+    public int getEndCell() { return endCell; }
+    public long getSeed() { return seed; }
+    public String getGenerator() { return generator; }
+    /** Metrik generate() / solve() terakhir di engine ini, atau null. */
+    public RunMetrics getLastMetrics() { return lastMetrics; }
+
+    /**
+     * Pilih heuristic untuk A*: "ALT" (default; landmark, preprocessing sekali per maze),
+     * "Scaled" (admissible, tapi sama dengan Zero selama ada DIRT), "Zero", atau
+     * "Manhattan" (lama, tidak admissible).
+     */
+    public void setHeuristic(String name) {
+        this.heuristicName = name;
+        this.heuristic = null;
+    }
+
+    /** Heuristic aktif, dibangun saat pertama dipakai setelah maze selesai dibuat. */
+    public Heuristic getHeuristic() {
+        if (heuristic == null) heuristic = Heuristic.create(heuristicName, grid);
+        return heuristic;
+    }
+
+    /**
+     * Panggil setelah struktur atau terrain grid diubah dari luar engine, supaya
+     * cache (heuristic, graph koridor) dibangun ulang.
+     */
+    public void mazeChanged() {
+        heuristic = null;
+        corridorGraph = null;
+        corridors = null;
+        treeIndex = null;
+        treeChecked = false;
+    }
+
+    /**
+     * Engine baru untuk thread worker di atas grid yang sama. Struktur read-only
+     * yang sudah dibangun (heuristic, graph koridor) dipakai bersama, sedangkan
+     * workspace pencarian dan Random milik worker sendiri. Grid tidak boleh diubah
+     * selama worker masih berjalan.
+     */
+    public MazeEngine forWorker() {
+        MazeEngine worker = new MazeEngine(grid, new Random(rand.nextLong()));
+        worker.startCell = startCell;
+        worker.endCell = endCell;
+        worker.heuristicName = heuristicName;
+        worker.shareCachesFrom(this);
+        return worker;
+    }
+
+    /**
+     * Ambil cache read-only (heuristic, graph koridor, index LCA) milik prototype
+     * yang belum dimiliki worker ini. Cache yang dibangun prepare() setelah worker
+     * dibuat tetap dibagi, bukan dibangun ulang per thread; lihat BatchSolver.
+     */
+    public void shareCachesFrom(MazeEngine prototype) {
+        if (heuristic == null) heuristic = prototype.heuristic;
+        if (corridorGraph == null) corridorGraph = prototype.corridorGraph;
+        if (!treeChecked && prototype.treeChecked) {
+            treeIndex = prototype.treeIndex;
+            treeChecked = true;
+        }
+    }
+
+    /**
+     * Salinan beku maze ini (PackedGrid baru + start/exit, seed, heuristic) untuk
+     * dipakai thread lain sementara grid asli tetap boleh berubah, misal SolverRace.
+     * Cache tidak ikut disalin karena terikat ke grid asli.
+     */
+    public MazeEngine snapshot() {
+        MazeEngine copy = new MazeEngine(PackedGrid.copyOf(grid), new Random(rand.nextLong()));
+        copy.startCell = startCell;
+        copy.endCell = endCell;
+        copy.heuristicName = heuristicName;
+        copy.seed = seed;
+        copy.generator = generator;
+        return copy;
+    }
+
+    /** True jika solver ini memakai heuristic (keluarga A*); yang lain tidak perlu membangunnya. */
+    public static boolean usesHeuristic(String solver) {
+        return solver.endsWith("A*");
+    }
+
+    /** Bangun cache read-only yang dibutuhkan solver ini sebelum dibagikan ke worker. */
+    public void prepare(String solver) {
+        if (usesHeuristic(solver)) getHeuristic(); // ALT = beberapa Dijkstra penuh, jangan untuk BFS/Dial
+        if (solver.startsWith("Corridor")) getCorridorGraph();
+        if (solver.equals("Tree")) getTreeIndex();
+    }
+
+    /** Index LCA untuk maze sempurna, atau null jika maze punya loop / tidak terhubung. */
+    public TreeIndex getTreeIndex() {
+        if (!treeChecked) {
+            treeIndex = TreeIndex.build(grid);
+            treeChecked = true;
+        }
+        return treeIndex;
+    }
+
+    public CorridorGraph getCorridorGraph() {
+        if (corridorGraph == null) corridorGraph = CorridorGraph.build(grid);
+        return corridorGraph;
+    }
+
+    public void setStartAndExit(int start, int exit) {
+        this.startCell = start;
+        this.endCell = exit;
+    }
+
+    // --- GENERATOR ---
+
+    /**
+     * Generate maze lengkap (struktur + terrain + start/exit) dengan algoritma
+     * "Prim's", "Kruskal's", "FastPrim", "FastKruskal" (skala besar, lihat FastMazeGenerator)
+     * "Eller" (baris demi baris, lihat EllerGenerator) atau "Tiled" (paralel per tile,
+     * lihat TiledMazeGenerator).
+     */
+    public void generate(String algorithm, StepListener listener) {
+        generate(algorithm, rand.nextLong(), listener);
+    }
+
+    /** Sama dengan generate(algorithm, listener) tetapi reproducible: seed yang sama = dungeon yang sama. */
+    public void generate(String algorithm, long seed, StepListener listener) {
+        RunMetrics.Probe probe = RunMetrics.start();
+        lastRelaxations = -1;
+        lastPeakFrontier = -1;
+        initGrid();
+        this.seed = seed;
+        this.generator = algorithm;
+        rand.setSeed(seed);
+        if (algorithm.equals("FastPrim")) {
+            GeneratorStats stats = new GeneratorStats();
+            FastMazeGenerator.prim(grid, rand.nextLong(), listener, stats);
+            generated(stats.relaxations(), stats.peakFrontier());
+        } else if (algorithm.equals("FastKruskal")) {
+            GeneratorStats stats = new GeneratorStats();
+            FastMazeGenerator.kruskal(grid, rand.nextLong(), listener, stats);
+            generated(stats.relaxations(), stats.peakFrontier());
+        } else if (algorithm.equals("Tiled")) {
+            GeneratorStats stats = new GeneratorStats();
+            TiledMazeGenerator.generate(grid, TiledMazeGenerator.DEFAULT_TILE_SIZE, "FastPrim", rand.nextLong(),
+                    Runtime.getRuntime().availableProcessors(), listener, stats);
+            generated(stats.relaxations(), stats.peakFrontier());
+        } else if (algorithm.equals("Eller")) {
+            EllerGenerator eller = new EllerGenerator(grid.cols(), rand.nextLong());
+            eller.setTerrainWeights(terrainWeights);
+            eller.generate(grid.rows(), RowSink.into(grid, listener));
+            generated(eller.relaxations(), eller.peakFrontier());
+        } else if (algorithm.contains("Kruskal")) {
+            generateKruskal(listener);
+        } else {
+            generatePrim(listener);
+        }
+        // Eller sudah mengisi terrain per baris: hasilnya sama dengan versi streaming (RowSink)
+        if (!algorithm.equals("Eller")) generateTerrainOnly();
+        setupStartAndExit();
+        lastMetrics = probe.finish(RunMetrics.GENERATE, algorithm, "", grid, grid.size(),
+                lastRelaxations, lastPeakFrontier, -1, 0);
+    }
+
+    /** Simpan counter generator untuk RunMetrics lalu beri tahu listener perubahan maze. */
+    private void generated(long relaxations, long peakFrontier) {
+        lastRelaxations = relaxations;
+        lastPeakFrontier = peakFrontier;
+        mazeChanged();
+    }
+
+    /**
+     * Randomized Prim's:
+     * 1. Mulai dari satu sel.
+     * 2. Masukkan dinding tetangganya ke dalam daftar (frontier).
+     * 3. Pilih dinding acak dari frontier.
+     * 4. Jika sel di seberang dinding belum visited, hancurkan dinding dan jadikan sel itu bagian maze.
+     */
+    public void generatePrim(StepListener listener) {
+        List<Wall> walls = new ArrayList<>();
+        BitSet inMaze = new BitSet(grid.size());
+
+        inMaze.set(0); // Mulai dari pojok kiri atas
+        addWalls(0, walls);
+
+        int peak = walls.size();
+        long examined = 0;
+        while (!walls.isEmpty()) {
+            Cancellation.check();
+            examined++;
+            int index = rand.nextInt(walls.size());
+            Wall wall = walls.remove(index);
+
+            int next = wall.cell2;
+            if (!inMaze.get(next)) {
+                grid.openWall(wall.cell1, wall.direction);
+                inMaze.set(next);
+                addWalls(next, walls);
+                if (walls.size() > peak) peak = walls.size();
+                listener.onStep(StepListener.CARVE, next);
+            }
+        }
+        generated(examined, peak);
+    }
+
+    /**
+     * Randomized Kruskal's:
+     * 1. Anggap setiap sel adalah set terpisah.
+     * 2. Kumpulkan semua kemungkinan dinding lalu acak urutannya.
+     * 3. Jika dua sel yang dipisahkan dinding berada di set berbeda, hancurkan dinding & gabungkan set.
+     */
+    public void generateKruskal(StepListener listener) {
+        int cols = grid.cols(), rows = grid.rows();
+        List<Wall> allWalls = new ArrayList<>();
+        for (int y = 0; y < rows; y++) {
+            for (int x = 0; x < cols; x++) {
+                int id = y * cols + x;
+                if (x < cols - 1) allWalls.add(new Wall(id, id + 1, MazeGrid.RIGHT));
+                if (y < rows - 1) allWalls.add(new Wall(id, id + cols, MazeGrid.BOTTOM));
+            }
+        }
+
+        Collections.shuffle(allWalls, rand);
+
+        UnionFind ds = new UnionFind(grid.size());
+
+        for (Wall w : allWalls) {
+            Cancellation.check();
+            if (ds.union(w.cell1, w.cell2)) {
+                grid.openWall(w.cell1, w.direction);
+                listener.onStep(StepListener.CARVE, w.cell2);
+            }
+        }
+        generated(allWalls.size(), allWalls.size());
+    }
+
+    /**
+     * Bobot relatif tiap terrain untuk generate berikutnya, berurutan seperti
+     * Terrain.values() (DIRT, GRASS, MUD, WATER), misal 50, 25, 15, 10 (default).
+     */
+    public void setTerrainWeights(double... weights) {
+        terrainThresholds = terrainThresholds(weights);
+        terrainWeights = weights.clone();
+    }
+
+    /**
+     * Bobot terrain (lihat setTerrainWeights) menjadi batas kumulatif peluang tiap
+     * terrain kecuali yang terakhir: terrain ke-t dipilih jika nextDouble() jatuh di
+     * antara batas t-1 dan t. Dipakai juga oleh EllerGenerator.
+     */
+    public static double[] terrainThresholds(double... weights) {
+        if (weights.length != TERRAINS.length) {
+            throw new IllegalArgumentException("Expected " + TERRAINS.length + " terrain weights, got " + weights.length);
+        }
+        double total = 0;
+        for (double w : weights) {
+            if (!(w >= 0)) throw new IllegalArgumentException("Terrain weights must be >= 0");
+            total += w;
+        }
+        if (total <= 0) throw new IllegalArgumentException("At least one terrain weight must be > 0");
+        double[] thresholds = new double[TERRAINS.length - 1];
+        double sum = 0;
+        for (int t = 0; t < thresholds.length; t++) {
+            sum += weights[t];
+            thresholds[t] = sum / total;
+        }
+        return thresholds;
+    }
+
+    /** Terrain untuk satu angka acak [0, 1) menurut batas dari terrainThresholds(). */
+    public static Terrain pickTerrain(double[] thresholds, double chance) {
+        int t = 0;
+        while (t < thresholds.length && chance >= thresholds[t]) t++;
+        return TERRAINS[t];
+    }
+
+    public void generateTerrainOnly() {
+        int n = grid.size();
+        double[] thresholds = terrainThresholds;
+        for (int i = 0; i < n; i++) {
+            Cancellation.check();
+            grid.setTerrain(i, pickTerrain(thresholds, rand.nextDouble()));
+        }
+        mazeChanged();
+    }
+
+    public void setupStartAndExit() {
+        int cols = grid.cols(), rows = grid.rows();
+        startCell = 0;
+        int ex = rand.nextInt(Math.max(1, cols / 3)) + (cols * 2 / 3);
+        int ey = rand.nextInt(rows);
+        endCell = grid.index(ex, ey);
+        grid.setTerrain(endCell, Terrain.DIRT);
+        mazeChanged();
+    }
+
+    // --- PERSISTENCE ---
+
+    /** Simpan dungeon (struktur, terrain, seed, start/exit) ke file biner, lihat MazeFile. */
+    public void save(Path path) throws IOException {
+        MazeFile.write(path, grid, seed, generator, startCell, endCell);
+    }
+
+    /**
+     * Muat dungeon dari file ke grid engine ini (ukuran harus sama). Untuk maze
+     * raksasa lebih baik pakai MazeFile.open() langsung sebagai grid engine baru.
+     */
+    public void load(Path path) throws IOException {
+        MappedGrid file = MazeFile.open(path);
+        file.copyInto(grid);
+        MazeFile.Header header = file.getHeader();
+        mazeChanged();
+        seed = header.seed;
+        generator = header.generator;
+        startCell = header.start;
+        endCell = header.exit;
+    }
+
+    /**
+     * Salin maze lengkap (struktur, terrain, start/exit, seed) dari engine lain
+     * berukuran sama, misal hasil generate di grid bayangan.
+     */
+    public void copyFrom(MazeEngine other) {
+        MazeGrid src = other.grid;
+        if (src.cols() != grid.cols() || src.rows() != grid.rows()) {
+            throw new IllegalArgumentException("Grid size mismatch: " + src.cols() + "x" + src.rows()
+                    + " vs " + grid.cols() + "x" + grid.rows());
+        }
+        grid.clear();
+        int n = grid.size();
+        for (int i = 0; i < n; i++) {
+            if (src.isOpen(i, MazeGrid.RIGHT)) grid.openWall(i, MazeGrid.RIGHT);
+            if (src.isOpen(i, MazeGrid.BOTTOM)) grid.openWall(i, MazeGrid.BOTTOM);
+            grid.setTerrain(i, src.getTerrain(i));
+        }
+        mazeChanged();
+        seed = other.seed;
+        generator = other.generator;
+        startCell = other.startCell;
+        endCell = other.endCell;
+    }
+
+    // --- SOLVERS ---
+
+    /**
+     * Jalankan solver berdasarkan nama ("BFS", "DFS", "Dijkstra", "A*", "Dial", "HeapA*",
+     * "CorridorBFS", "CorridorDijkstra", "CorridorA*", "BiBFS", "BiDijkstra", "BiA*", "Tree") dari start ke exit.
+     */
+    public SolveResult solve(String solver, StepListener listener) {
+        return solve(solver, startCell, endCell, listener);
+    }
+
+    public SolveResult solve(String solver, int from, int to, StepListener listener) {
+        RunMetrics.Probe probe = RunMetrics.start();
+        lastRelaxations = -1;
+        lastPeakFrontier = -1;
+        SolveResult result = dispatch(solver, from, to, listener);
+        String h = usesHeuristic(solver) ? heuristicName : "";
+        lastMetrics = probe.finish(RunMetrics.SOLVE, solver, h, grid, result.explored,
+                lastRelaxations, lastPeakFrontier, result.cost, result.path.length);
+        return result;
+    }
+
+    private SolveResult dispatch(String solver, int from, int to, StepListener listener) {
+        switch (solver) {
+            case "BFS": return solveBFS(from, to, listener);
+            case "DFS": return solveDFS(from, to, listener);
+            case "Dijkstra": return solveDijkstra(from, to, listener);
+            case "A*": return solveAStar(from, to, listener);
+            case "Dial": return solveDial(from, to, listener);
+            case "HeapA*": return solveHeapAStar(from, to, listener);
+            case "CorridorBFS": return solveCorridor("BFS", from, to, listener);
+            case "CorridorDijkstra": return solveCorridor("Dijkstra", from, to, listener);
+            case "CorridorA*": return solveCorridor("A*", from, to, listener);
+            case "BiBFS": return solveBidirectional("BFS", from, to, listener);
+            case "BiDijkstra": return solveBidirectional("Dijkstra", from, to, listener);
+            case "BiA*": return solveBidirectional("A*", from, to, listener);
+            case "Tree": return solveTree(from, to, listener);
+            default: throw new IllegalArgumentException("Unknown solver: " + solver);
+        }
+    }
+
+    /** Simpan counter instrumentasi solver untuk RunMetrics run ini. */
+    private SolveResult counted(SolveResult result, long relaxations, long peakFrontier) {
+        lastRelaxations = relaxations;
+        lastPeakFrontier = peakFrontier;
+        return result;
+    }
+
+    public SolveResult solveBFS(int from, int to, StepListener listener) {
+        int n = grid.size();
+        int[] queue = new int[n];
+        int[] parent = new int[n];
+        BitSet visited = new BitSet(n);
+        int head = 0, tail = 0, explored = 0, relaxations = 0, peak = 1;
+
+        queue[tail++] = from;
+        visited.set(from);
+        parent[from] = -1;
+
+        while (head < tail) {
+            Cancellation.check();
+            int current = queue[head++];
+            explored++;
+            listener.onStep(StepListener.VISIT, current);
+
+            if (current == to) {
+                return counted(buildResult("BFS", parent, current, explored), relaxations, peak);
+            }
+
+            for (int dir = 0; dir < 4; dir++) {
+                if (!grid.isOpen(current, dir)) continue;
+                int neighbor = grid.neighbor(current, dir);
+                if (!visited.get(neighbor)) {
+                    visited.set(neighbor);
+                    parent[neighbor] = current;
+                    queue[tail++] = neighbor;
+                    relaxations++;
+                }
+            }
+            if (tail - head > peak) peak = tail - head;
+        }
+        return counted(SolveResult.notFound("BFS", explored), relaxations, peak);
+    }
+
+    public SolveResult solveDFS(int from, int to, StepListener listener) {
+        int n = grid.size();
+        int[] stack = new int[n];
+        int[] parent = new int[n];
+        int[] dirs = {0, 1, 2, 3};
+        BitSet visited = new BitSet(n);
+        int top = 0, explored = 0, relaxations = 0, peak = 1;
+
+        stack[top++] = from;
+        visited.set(from);
+        parent[from] = -1;
+
+        while (top > 0) {
+            Cancellation.check();
+            int current = stack[--top];
+            explored++;
+            listener.onStep(StepListener.VISIT, current);
+
+            if (current == to) {
+                return counted(buildResult("DFS", parent, current, explored), relaxations, peak);
+            }
+
+            shuffle(dirs);
+            for (int dir : dirs) {
+                if (!grid.isOpen(current, dir)) continue;
+                int neighbor = grid.neighbor(current, dir);
+                if (!visited.get(neighbor)) {
+                    visited.set(neighbor);
+                    parent[neighbor] = current;
+                    stack[top++] = neighbor;
+                    relaxations++;
+                }
+            }
+            if (top > peak) peak = top;
+        }
+        return counted(SolveResult.notFound("DFS", explored), relaxations, peak);
+    }
+
+    public SolveResult solveDijkstra(int from, int to, StepListener listener) {
+        int n = grid.size();
+        PriorityQueue<Node> pq = new PriorityQueue<>(Comparator.comparingInt(node -> node.gCost));
+        int[] dist = new int[n];
+        int[] parent = new int[n];
+        int explored = 0, relaxations = 0, peak = 1;
+
+        Arrays.fill(dist, Integer.MAX_VALUE);
+        dist[from] = 0;
+        parent[from] = -1;
+        pq.add(new Node(from, 0, 0, null));
+
+        while (!pq.isEmpty()) {
+            Cancellation.check();
+            Node node = pq.poll();
+            int current = node.cell;
+
+            if (node.gCost > dist[current]) continue;
+
+            explored++;
+            listener.onStep(StepListener.VISIT, current);
+
+            if (current == to) {
+                return counted(buildResult("Dijkstra", parent, current, explored), relaxations, peak);
+            }
+
+            for (int dir = 0; dir < 4; dir++) {
+                if (!grid.isOpen(current, dir)) continue;
+                int neighbor = grid.neighbor(current, dir);
+                int newDist = dist[current] + grid.cost(neighbor);
+                if (newDist < dist[neighbor]) {
+                    dist[neighbor] = newDist;
+                    parent[neighbor] = current;
+                    pq.add(new Node(neighbor, newDist, 0, null));
+                    relaxations++;
+                }
+            }
+            if (pq.size() > peak) peak = pq.size();
+        }
+        return counted(SolveResult.notFound("Dijkstra", explored), relaxations, peak);
+    }
+
+    public SolveResult solveAStar(int from, int to, StepListener listener) {
+        int n = grid.size();
+        PriorityQueue<Node> pq = new PriorityQueue<>(Comparator.comparingInt(node -> node.fCost));
+        int[] gScore = new int[n];
+        int[] parent = new int[n];
+        int explored = 0, relaxations = 0, peak = 1;
+
+        Arrays.fill(gScore, Integer.MAX_VALUE);
+        gScore[from] = 0;
+        parent[from] = -1;
+        Heuristic h = getHeuristic();
+        pq.add(new Node(from, 0, h.estimate(from, to), null));
+
+        while (!pq.isEmpty()) {
+            Cancellation.check();
+            Node node = pq.poll();
+            int current = node.cell;
+
+            if (node.gCost > gScore[current]) continue;
+
+            explored++;
+            listener.onStep(StepListener.VISIT, current);
+
+            if (current == to) {
+                return counted(buildResult("A*", parent, current, explored), relaxations, peak);
+            }
+
+            for (int dir = 0; dir < 4; dir++) {
+                if (!grid.isOpen(current, dir)) continue;
+                int neighbor = grid.neighbor(current, dir);
+                int tentativeG = gScore[current] + grid.cost(neighbor);
+                if (tentativeG < gScore[neighbor]) {
+                    gScore[neighbor] = tentativeG;
+                    parent[neighbor] = current;
+                    pq.add(new Node(neighbor, tentativeG, h.estimate(neighbor, to), null));
+                    relaxations++;
+                }
+            }
+            if (pq.size() > peak) peak = pq.size();
+        }
+        return counted(SolveResult.notFound("A*", explored), relaxations, peak);
+    }
+
+    /**
+     * Dijkstra versi Dial: bucket queue berisi index sel, tanpa Node per relaksasi.
+     * Hasilnya sama optimalnya dengan solveDijkstra.
+     */
+    public SolveResult solveDial(int from, int to, StepListener listener) {
+        if (dial == null) dial = new DialDijkstra(grid);
+        SolveResult result = dial.solve(from, to, listener);
+        return counted(result, dial.relaxations(), dial.peakFrontier());
+    }
+
+    /**
+     * A* versi array: IndexedMinHeap dengan decrease-key dan workspace yang dipakai ulang,
+     * jadi query berulang pada maze yang sama tidak mengalokasi ulang.
+     */
+    public SolveResult solveHeapAStar(int from, int to, StepListener listener) {
+        if (aStar == null) aStar = new AStarSearch(grid);
+        aStar.setHeuristic(getHeuristic());
+        SolveResult result = aStar.solve(from, to, listener);
+        return counted(result, aStar.relaxations(), aStar.peakFrontier());
+    }
+
+    /**
+     * Solve di atas graph junction (koridor dikompres jadi satu edge). Graph dibangun
+     * sekali per maze; jalur hasil sudah dibongkar kembali menjadi urutan sel.
+     * VISIT hanya dikirim untuk sel junction yang di-expand.
+     */
+    public SolveResult solveCorridor(String mode, int from, int to, StepListener listener) {
+        if (corridors == null) corridors = new CorridorGraph.Search(getCorridorGraph());
+        corridors.setHeuristic(mode.equals("A*") ? getHeuristic() : Heuristic.ZERO);
+        SolveResult result = corridors.solve(mode, from, to, listener);
+        return counted(result, corridors.relaxations(), corridors.peakFrontier());
+    }
+
+    /**
+     * Solve dua arah (start dan exit sekaligus). explored = total sel yang di-expand
+     * oleh kedua sisi, jadi bisa dibandingkan langsung dengan versi satu arah.
+     */
+    public SolveResult solveBidirectional(String mode, int from, int to, StepListener listener) {
+        if (bidirectional == null) bidirectional = new BidirectionalSearch(grid);
+        bidirectional.setHeuristic(mode.equals("A*") ? getHeuristic() : Heuristic.ZERO);
+        SolveResult result = bidirectional.solve(mode, from, to, listener);
+        return counted(result, bidirectional.relaxations(), bidirectional.peakFrontier());
+    }
+
+    /**
+     * Query jalur lewat TreeIndex (LCA) jika maze sempurna: O(log n) untuk cost,
+     * O(panjang jalur) untuk jalurnya. Jika maze punya loop, otomatis jatuh ke Dial.
+     */
+    public SolveResult solveTree(int from, int to, StepListener listener) {
+        TreeIndex index = getTreeIndex();
+        if (index == null) return solveDial(from, to, listener);
+        return counted(index.solve(from, to), 0, 0); // Tanpa frontier: naik ke LCA lewat jump pointer
+    }
+
+    // --- UTILITIES ---
+
+    private SolveResult buildResult(String solver, int[] parent, int current, int explored) {
+        return SearchPaths.build(solver, grid, parent, current, explored);
+    }
+
+    private void shuffle(int[] a) {
+        for (int i = a.length - 1; i > 0; i--) {
+            int j = rand.nextInt(i + 1);
+            int tmp = a[i]; a[i] = a[j]; a[j] = tmp;
+        }
+    }
+
+    private void addWalls(int c, List<Wall> walls) {
+        for (int dir = 0; dir < 4; dir++) {
+            int n = grid.neighbor(c, dir);
+            if (n >= 0) walls.add(new Wall(c, n, dir));
+        }
+    }
+}
@@ -0,0 +1,188 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Format file biner dungeon (versi 1), little-endian:
+ *
+ *   offset  isi
+ *   0       magic "DNGN"
+ *   4       versi format (int)
+ *   8       cols, rows (int, int)
+ *   16      seed generator (long)
+ *   24      start, exit (int, int; -1 jika belum ada)
+ *   32      panjang nama generator (int), lalu maks 28 byte UTF-8
+ *   64      eastOpen : ceil(n / 64) long, bit i = dinding kanan sel i terbuka
+ *   ...     southOpen: ceil(n / 64) long, bit i = dinding bawah sel i terbuka
+ *   ...     terrain  : n byte, Terrain.ordinal() per sel
+ *
+ * Header divalidasi saat dibuka. Bagian dinding dan terrain tidak dipindai
+ * (itu akan membaca seluruh file), tetapi MappedGrid tidak pernah membuka dinding
+ * di tepi grid dan memperlakukan ordinal terrain yang tidak dikenal sebagai WATER.
+ *
+ * Bagian dinding dan terrain sama persis dengan array di PackedGrid, jadi
+ * menulis cukup satu pass dan membuka file hanya memetakan (mmap) setiap
+ * bagian: MappedGrid membaca langsung dari mapping tanpa menyalin ke Cell.
+ */
+public final class MazeFile {
+    public static final int VERSION = 1;
+
+    private static final int MAGIC = 0x4E474E44; // "DNGN" dalam little-endian
+    private static final int HEADER_BYTES = 64;
+    private static final int MAX_GENERATOR_BYTES = 28;
+    private static final int CHUNK_WORDS = 8192; // Buffer tulis 64 KB
+
+    private MazeFile() {}
+
+    /** Metadata dari header file. */
+    public static final class Header {
+        public final int cols, rows;
+        public final long seed;
+        public final String generator;
+        public final int start, exit;
+
+        public Header(int cols, int rows, long seed, String generator, int start, int exit) {
+            this.cols = cols;
+            this.rows = rows;
+            this.seed = seed;
+            this.generator = generator;
+            this.start = start;
+            this.exit = exit;
+        }
+    }
+
+    /** Ukuran file dungeon cols x rows dalam byte (header + dinding + terrain). */
+    public static long sizeOf(int cols, int rows) {
+        return HEADER_BYTES + PackedGrid.estimateBytes(cols, rows);
+    }
+
+    public static void write(Path path, MazeGrid grid, long seed, String generator, int start, int exit) throws IOException {
+        try (FileChannel ch = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            write(ch, grid, seed, generator, start, exit);
+        }
+    }
+
+    /**
+     * Tulis dungeon ke channel apa pun (file, socket, response HTTP) dengan buffer
+     * tetap 64 KB, jadi memori tidak bergantung pada ukuran maze. Channel tidak ditutup.
+     */
+    public static void write(WritableByteChannel ch, MazeGrid grid, long seed, String generator, int start, int exit)
+            throws IOException {
+        int n = grid.size();
+        int words = (n + 63) >>> 6;
+        byte[] name = generator.getBytes(StandardCharsets.UTF_8);
+        if (name.length > MAX_GENERATOR_BYTES) {
+            throw new IllegalArgumentException("Generator name too long: " + generator);
+        }
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        header.putInt(MAGIC).putInt(VERSION).putInt(grid.cols()).putInt(grid.rows())
+                .putLong(seed).putInt(start).putInt(exit).putInt(name.length).put(name);
+        header.clear();
+        writeFully(ch, header);
+
+        // Direct buffer hanya menguntungkan untuk FileChannel; stream lain menyalin ke byte[] juga
+        ByteBuffer buf = (ch instanceof FileChannel ? ByteBuffer.allocateDirect(CHUNK_WORDS * 8)
+                : ByteBuffer.allocate(CHUNK_WORDS * 8)).order(ByteOrder.LITTLE_ENDIAN);
+        PackedGrid packed = grid instanceof PackedGrid ? (PackedGrid) grid : null;
+        for (int dir : new int[] {MazeGrid.RIGHT, MazeGrid.BOTTOM}) {
+            for (int w = 0; w < words; w++) {
+                long word;
+                if (packed != null) {
+                    word = dir == MazeGrid.RIGHT ? packed.eastOpen[w] : packed.southOpen[w];
+                } else {
+                    word = 0;
+                    int base = w << 6, end = Math.min(n, base + 64);
+                    for (int i = base; i < end; i++) {
+                        if (grid.isOpen(i, dir)) word |= 1L << i;
+                    }
+                }
+                buf.putLong(word);
+                if (!buf.hasRemaining()) flush(ch, buf);
+            }
+            flush(ch, buf);
+        }
+
+        for (int i = 0; i < n; i++) {
+            buf.put(packed != null ? packed.terrain[i] : (byte) grid.getTerrain(i).ordinal());
+            if (!buf.hasRemaining()) flush(ch, buf);
+        }
+        flush(ch, buf);
+    }
+
+    /** Baca header saja tanpa memetakan isi file. */
+    public static Header readHeader(Path path) throws IOException {
+        try (FileChannel ch = FileChannel.open(path, StandardOpenOption.READ)) {
+            return readHeader(ch, path);
+        }
+    }
+
+    /**
+     * Petakan file ke memori. Hanya header yang dibaca sekarang; isi grid dimuat
+     * oleh OS secara lazy saat solver mengaksesnya.
+     */
+    public static MappedGrid open(Path path) throws IOException {
+        try (FileChannel ch = FileChannel.open(path, StandardOpenOption.READ)) {
+            Header header = readHeader(ch, path);
+            long n = (long) header.cols * header.rows;
+            long wordBytes = ((n + 63) >>> 6) * 8;
+            long expected = HEADER_BYTES + 2 * wordBytes + n;
+            if (ch.size() != expected) {
+                throw new IOException("Corrupt dungeon file " + path + ": expected " + expected + " bytes, found " + ch.size());
+            }
+            // Mapping tetap valid setelah channel ditutup
+            MappedByteBuffer east = ch.map(FileChannel.MapMode.READ_ONLY, HEADER_BYTES, wordBytes);
+            MappedByteBuffer south = ch.map(FileChannel.MapMode.READ_ONLY, HEADER_BYTES + wordBytes, wordBytes);
+            MappedByteBuffer terrain = ch.map(FileChannel.MapMode.READ_ONLY, HEADER_BYTES + 2 * wordBytes, n);
+            return new MappedGrid(header,
+                    east.order(ByteOrder.LITTLE_ENDIAN).asLongBuffer(),
+                    south.order(ByteOrder.LITTLE_ENDIAN).asLongBuffer(),
+                    terrain);
+        }
+    }
+
+    private static Header readHeader(FileChannel ch, Path path) throws IOException {
+        ByteBuffer buf = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        while (buf.hasRemaining()) {
+            if (ch.read(buf) < 0) throw new IOException("Not a dungeon file (too short): " + path);
+        }
+        buf.flip();
+        if (buf.getInt() != MAGIC) throw new IOException("Not a dungeon file: " + path);
+        int version = buf.getInt();
+        if (version != VERSION) throw new IOException("Unsupported dungeon file version " + version + ": " + path);
+
+        int cols = buf.getInt(), rows = buf.getInt();
+        long seed = buf.getLong();
+        int start = buf.getInt(), exit = buf.getInt();
+        int nameLength = buf.getInt();
+        if (cols <= 0 || rows <= 0 || (long) cols * rows > Integer.MAX_VALUE
+                || nameLength < 0 || nameLength > MAX_GENERATOR_BYTES) {
+            throw new IOException("Corrupt dungeon header: " + path);
+        }
+        int n = cols * rows;
+        if (start < -1 || start >= n || exit < -1 || exit >= n) {
+            throw new IOException("Corrupt dungeon header: start " + start + " / exit " + exit
+                    + " outside " + cols + "x" + rows + ": " + path);
+        }
+        byte[] name = new byte[nameLength];
+        buf.get(name);
+        return new Header(cols, rows, seed, new String(name, StandardCharsets.UTF_8), start, exit);
+    }
+
+    private static void flush(WritableByteChannel ch, ByteBuffer buf) throws IOException {
+        buf.flip();
+        writeFully(ch, buf);
+        buf.clear();
+    }
+
+    private static void writeFully(WritableByteChannel ch, ByteBuffer buf) throws IOException {
+        while (buf.hasRemaining()) ch.write(buf);
+    }
+}
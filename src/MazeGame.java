@@ -42,7 +42,13 @@ public class MazeGame extends JFrame {
         ));
 
         mazeContainer.add(mazePanel);
-        add(mazeContainer, BorderLayout.CENTER);
+
+        // Viewport: scroll = zoom, drag = geser (lihat MazePanel)
+        JScrollPane mazeScroll = new JScrollPane(mazeContainer);
+        mazeScroll.setBorder(null);
+        mazeScroll.getViewport().setBackground(new Color(35, 30, 25));
+        mazeScroll.setWheelScrollingEnabled(false);
+        add(mazeScroll, BorderLayout.CENTER);
 
         // --- 2. CONTROL PANEL (SIDEBAR KANAN) ---
         JPanel contentPanel = new WoodPanel();
@@ -64,6 +70,13 @@ public class MazeGame extends JFrame {
 
         JButton btnGen = createRPGButton("Generate Dungeon", new Color(180, 130, 0));
         contentPanel.add(btnGen);
+        contentPanel.add(Box.createRigidArea(new Dimension(0, 10)));
+
+        JButton btnSave = createRPGButton("Save Dungeon", new Color(110, 90, 40));
+        JButton btnLoad = createRPGButton("Load Dungeon", new Color(110, 90, 40));
+        contentPanel.add(btnSave);
+        contentPanel.add(Box.createRigidArea(new Dimension(0, 10)));
+        contentPanel.add(btnLoad);
 
         contentPanel.add(Box.createRigidArea(new Dimension(0, 30)));
 
@@ -74,6 +87,7 @@ public class MazeGame extends JFrame {
         JButton btnDFS = createRPGButton("DFS", new Color(60, 80, 100));
         JButton btnDijkstra = createRPGButton("Dijkstra", new Color(60, 80, 100));
         JButton btnAStar = createRPGButton("A* Star", new Color(100, 60, 140)); // Tombol Baru
+        JButton btnRace = createRPGButton("Race All", new Color(140, 90, 30)); // Semua solver bersamaan
 
         contentPanel.add(btnBFS);
         contentPanel.add(Box.createRigidArea(new Dimension(0, 10)));
@@ -82,10 +96,49 @@ public class MazeGame extends JFrame {
         contentPanel.add(btnDijkstra);
         contentPanel.add(Box.createRigidArea(new Dimension(0, 10)));
         contentPanel.add(btnAStar); // Tambahkan ke panel
+        contentPanel.add(Box.createRigidArea(new Dimension(0, 10)));
+        contentPanel.add(btnRace);
 
         // Jarak setelah tombol terakhir
         contentPanel.add(Box.createRigidArea(new Dimension(0, 25)));
 
+        // SECTION: ANIMATION CONTROL
+        addHeader(contentPanel, "TIME MAGIC");
+        contentPanel.add(createLabel("Animation Speed (steps per frame):"));
+
+        JSlider speedSlider = new JSlider(1, 200, 2);
+        speedSlider.setOpaque(false);
+        speedSlider.setForeground(TEXT_COLOR);
+        speedSlider.setAlignmentX(Component.LEFT_ALIGNMENT);
+        speedSlider.setMaximumSize(new Dimension(280, 40));
+        contentPanel.add(speedSlider);
+        contentPanel.add(Box.createRigidArea(new Dimension(0, 10)));
+
+        JButton btnPause = createRPGButton("Pause", new Color(90, 70, 50));
+        JButton btnSkip = createRPGButton("Skip to Result", new Color(90, 70, 50));
+        contentPanel.add(btnPause);
+        contentPanel.add(Box.createRigidArea(new Dimension(0, 10)));
+        contentPanel.add(btnSkip);
+        contentPanel.add(Box.createRigidArea(new Dimension(0, 15)));
+
+        // Timeline run terakhir: geser untuk seek ke langkah mana pun
+        contentPanel.add(createLabel("Timeline (last run):"));
+        JSlider timeline = new JSlider(0, 1, 1);
+        timeline.setOpaque(false);
+        timeline.setEnabled(false);
+        timeline.setAlignmentX(Component.LEFT_ALIGNMENT);
+        timeline.setMaximumSize(new Dimension(280, 40));
+        contentPanel.add(timeline);
+        contentPanel.add(Box.createRigidArea(new Dimension(0, 10)));
+
+        JButton btnSaveTrace = createRPGButton("Save Trace", new Color(90, 70, 50));
+        JButton btnLoadTrace = createRPGButton("Load Trace", new Color(90, 70, 50));
+        contentPanel.add(btnSaveTrace);
+        contentPanel.add(Box.createRigidArea(new Dimension(0, 10)));
+        contentPanel.add(btnLoadTrace);
+
+        contentPanel.add(Box.createRigidArea(new Dimension(0, 25)));
+
         // SECTION 3: TERRAIN MAP
         addHeader(contentPanel, "TERRAIN MAP");
         addLegend(contentPanel);
@@ -150,10 +203,60 @@ public class MazeGame extends JFrame {
             log(">> Dungeon Created using " + code + " Magic.");
         });
 
+        speedSlider.addChangeListener(e -> mazePanel.setStepsPerFrame(speedSlider.getValue()));
+        btnPause.addActionListener(e -> {
+            boolean pause = btnPause.getText().equals("Pause");
+            mazePanel.setPaused(pause);
+            btnPause.setText(pause ? "Resume" : "Pause");
+        });
+        btnSkip.addActionListener(e -> mazePanel.skipToResult());
+
+        mazePanel.setTraceListener(trace -> {
+            timeline.setEnabled(trace != null);
+            if (trace != null) {
+                timeline.setMaximum(Math.max(1, trace.size()));
+                timeline.setValue(trace.size());
+            }
+        });
+        timeline.addChangeListener(e -> mazePanel.seekTrace(timeline.getValue()));
+
+        JFileChooser traceChooser = new JFileChooser();
+        traceChooser.setFileFilter(new javax.swing.filechooser.FileNameExtensionFilter("Trace files (*.trace)", "trace"));
+        btnSaveTrace.addActionListener(e -> {
+            if (traceChooser.showSaveDialog(this) == JFileChooser.APPROVE_OPTION) {
+                java.io.File file = traceChooser.getSelectedFile();
+                if (!file.getName().contains(".")) file = new java.io.File(file.getPath() + ".trace");
+                mazePanel.saveTrace(file);
+            }
+        });
+        btnLoadTrace.addActionListener(e -> {
+            if (traceChooser.showOpenDialog(this) == JFileChooser.APPROVE_OPTION) {
+                logArea.setText("");
+                mazePanel.loadTrace(traceChooser.getSelectedFile());
+            }
+        });
+
+        JFileChooser chooser = new JFileChooser();
+        chooser.setFileFilter(new javax.swing.filechooser.FileNameExtensionFilter("Dungeon files (*.dngn)", "dngn"));
+        btnSave.addActionListener(e -> {
+            if (chooser.showSaveDialog(this) == JFileChooser.APPROVE_OPTION) {
+                java.io.File file = chooser.getSelectedFile();
+                if (!file.getName().contains(".")) file = new java.io.File(file.getPath() + ".dngn");
+                mazePanel.saveMaze(file);
+            }
+        });
+        btnLoad.addActionListener(e -> {
+            if (chooser.showOpenDialog(this) == JFileChooser.APPROVE_OPTION) {
+                logArea.setText("");
+                mazePanel.loadMaze(chooser.getSelectedFile());
+            }
+        });
+
         btnBFS.addActionListener(e -> mazePanel.solveBFS());
         btnDFS.addActionListener(e -> mazePanel.solveDFS());
         btnDijkstra.addActionListener(e -> mazePanel.solveDijkstra());
         btnAStar.addActionListener(e -> mazePanel.solveAStar()); // Panggil A*
+        btnRace.addActionListener(e -> mazePanel.raceSolvers());
 
         // --- WINDOW SETTINGS ---
         pack();
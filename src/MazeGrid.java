@@ -0,0 +1,64 @@
+/**
+ * Model grid maze yang dipakai MazeEngine. Sel dialamatkan dengan index
+ * {@code y * cols + x}; arah mengikuti urutan Cell.walls (Top, Right, Bottom, Left).
+ *
+ * Implementasi: CellGrid (Cell[][] untuk UI) dan PackedGrid (primitive, untuk maze raksasa).
+ */
+public interface MazeGrid {
+    int TOP = 0, RIGHT = 1, BOTTOM = 2, LEFT = 3;
+
+    int cols();
+
+    int rows();
+
+    default int size() {
+        return cols() * rows();
+    }
+
+    /** True jika tidak ada dinding dari sel index ke arah dir (selalu false di tepi grid). */
+    boolean isOpen(int index, int dir);
+
+    /** Hancurkan dinding antara sel index dan tetangganya di arah dir (kedua sisi). */
+    void openWall(int index, int dir);
+
+    Terrain getTerrain(int index);
+
+    void setTerrain(int index, Terrain t);
+
+    /** Cost untuk memasuki sel index. */
+    default int cost(int index) {
+        return getTerrain(index).cost;
+    }
+
+    /** Kembalikan semua dinding ke kondisi tertutup dan terrain ke DIRT. */
+    void clear();
+
+    default int x(int index) {
+        return index % cols();
+    }
+
+    default int y(int index) {
+        return index / cols();
+    }
+
+    default int index(int x, int y) {
+        return y * cols() + x;
+    }
+
+    /** Index tetangga di arah dir, atau -1 jika di luar grid. */
+    default int neighbor(int index, int dir) {
+        int cols = cols();
+        int x = index % cols;
+        switch (dir) {
+            case TOP: return index >= cols ? index - cols : -1;
+            case RIGHT: return x < cols - 1 ? index + 1 : -1;
+            case BOTTOM: return index < size() - cols ? index + cols : -1;
+            case LEFT: return x > 0 ? index - 1 : -1;
+            default: return -1;
+        }
+    }
+
+    static int opposite(int dir) {
+        return (dir + 2) & 3;
+    }
+}
@@ -1,28 +1,147 @@
 import java.awt.*;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.awt.event.MouseWheelEvent;
 import java.util.*;
 import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.function.Consumer;
 import javax.swing.*;
 
 public class MazePanel extends JPanel {
     private final int COLS, ROWS;
-    private final int CELL_SIZE = 30;
-    private Cell[][] grid;
-
-    private Cell startCell;
-    private Cell endCell;
-
-    // Flag untuk mencegah tabrakan proses (Generating vs Solving)
-    private volatile boolean isWorking = false;
+    private static final int DEFAULT_CELL_SIZE = 30;
+    private static final int MIN_CELL_SIZE = 1, MAX_CELL_SIZE = 60;
+    private static final double ZOOM_STEP = 1.25;
+    private int cellSize = DEFAULT_CELL_SIZE; // Zoom saat ini (px per sel), hanya diubah di EDT
+    private final CellGrid cells;
+    private final MazeEngine engine;
+    private final MazeRenderer renderer;
+
+    private static final Color PROCESSING_FILL = new Color(255, 200, 0, 180); // Warna emas terang
+    private static final Color PATH_GLOW = new Color(255, 255, 220, 160);
+    private static final Color PATH_CORE = new Color(255, 50, 50, 120);
+    private static final BasicStroke START_RING = new BasicStroke(2);
+    private BasicStroke pathGlowStroke, pathCoreStroke; // Dibuat ulang saat zoom berubah
+
+    // Satu thread worker untuk semua job; request terbaru membatalkan job yang sedang berjalan
+    private final JobScheduler scheduler = new JobScheduler("dungeon-worker");
+    private static final long CANCEL_WAIT_MS = 2000;
+    private Run run; // Job aktif (generate / solve), hanya diakses di EDT; null = idle
+    private JobScheduler.Job lingering; // Job batal yang belum keluar setelah CANCEL_WAIT_MS (EDT)
+    private Runnable pendingSolve; // Solve yang diminta saat generate belum selesai
+    private RaceOverlay race; // Jejak race mode terakhir, null jika tidak ada (EDT)
+    private static final int RACE_FINISH = 1 << 8; // Event replay race: type = lane | RACE_FINISH
     private JTextArea logArea;
 
+    // Rekaman run terakhir untuk timeline (seek) dan save/load
+    private Trace trace;
+    private PackedGrid traceMaze; // Maze final saat trace generate direkam
+    private int traceStep;
+    private Consumer<Trace> traceListener = t -> {};
+
     private List<Cell> currentPath = new ArrayList<>();
-    private Cell currentProcessing = null; // Digunakan untuk highlight animasi
+    private volatile Cell currentProcessing = null; // Digunakan untuk highlight animasi
+
+    // Animasi: event dari worker -> ring milik job -> Timer di EDT
+    private final javax.swing.Timer animator = new javax.swing.Timer(1000 / 60, e -> animationFrame());
+    private volatile int stepsPerFrame = 2;
+    private volatile boolean paused, skipping;
 
     public MazePanel(int cols, int rows) {
         this.COLS = cols;
         this.ROWS = rows;
-        this.setPreferredSize(new Dimension(COLS * CELL_SIZE, ROWS * CELL_SIZE));
-        initGrid();
+        this.cells = new CellGrid(cols, rows);
+        this.engine = new MazeEngine(cells);
+        this.renderer = new MazeRenderer(cells, cellSize);
+        this.setPreferredSize(new Dimension(COLS * cellSize, ROWS * cellSize));
+        updatePathStrokes();
+        installViewportControls();
+    }
+
+    // --- VIEWPORT (ZOOM & PAN) ---
+
+    /**
+     * Scroll mouse = zoom di sekitar kursor, drag = geser peta, double-click = zoom awal. Panel perlu ada
+     * di dalam JScrollPane (lihat MazeGame) supaya bisa digeser.
+     */
+    private void installViewportControls() {
+        MouseAdapter controls = new MouseAdapter() {
+            private Point dragStart;
+
+            @Override
+            public void mousePressed(MouseEvent e) {
+                dragStart = SwingUtilities.convertPoint(MazePanel.this, e.getPoint(), viewport());
+            }
+
+            @Override
+            public void mouseClicked(MouseEvent e) {
+                if (e.getClickCount() == 2) resetZoom();
+            }
+
+            @Override
+            public void mouseDragged(MouseEvent e) {
+                JViewport viewport = viewport();
+                if (viewport == null || dragStart == null) return;
+                Point now = SwingUtilities.convertPoint(MazePanel.this, e.getPoint(), viewport);
+                Point pos = viewport.getViewPosition();
+                scrollTo(viewport, pos.x - (now.x - dragStart.x), pos.y - (now.y - dragStart.y));
+                dragStart = now;
+            }
+
+            @Override
+            public void mouseWheelMoved(MouseWheelEvent e) {
+                double factor = Math.pow(ZOOM_STEP, -e.getPreciseWheelRotation());
+                int next = (int) Math.round(cellSize * factor);
+                if (next == cellSize) next += factor > 1 ? 1 : -1;
+                zoomTo(next, e.getPoint());
+            }
+        };
+        addMouseListener(controls);
+        addMouseMotionListener(controls);
+        addMouseWheelListener(controls);
+    }
+
+    /** Ubah ukuran sel dengan titik anchor (koordinat panel) tetap di posisi layar yang sama. */
+    public void zoomTo(int newSize, Point anchor) {
+        newSize = Math.max(MIN_CELL_SIZE, Math.min(MAX_CELL_SIZE, newSize));
+        if (newSize == cellSize) return;
+        JViewport viewport = viewport();
+        Point onScreen = viewport == null ? null : SwingUtilities.convertPoint(this, anchor, viewport);
+        double fx = anchor.x / (double) cellSize, fy = anchor.y / (double) cellSize;
+
+        cellSize = newSize;
+        renderer.setCellSize(newSize);
+        updatePathStrokes();
+        setPreferredSize(new Dimension(COLS * cellSize, ROWS * cellSize));
+        revalidate();
+
+        if (viewport != null) {
+            viewport.getParent().validate(); // Layout sekarang, supaya posisi panel baru sudah benar
+            Point moved = SwingUtilities.convertPoint(this, new Point((int) (fx * cellSize), (int) (fy * cellSize)), viewport.getView());
+            scrollTo(viewport, moved.x - onScreen.x, moved.y - onScreen.y);
+        }
+        repaint();
+    }
+
+    public void resetZoom() {
+        zoomTo(DEFAULT_CELL_SIZE, new Point(getWidth() / 2, getHeight() / 2));
+    }
+
+    private JViewport viewport() {
+        return (JViewport) SwingUtilities.getAncestorOfClass(JViewport.class, this);
+    }
+
+    private static void scrollTo(JViewport viewport, int x, int y) {
+        Dimension view = viewport.getViewSize(), extent = viewport.getExtentSize();
+        x = Math.max(0, Math.min(x, view.width - extent.width));
+        y = Math.max(0, Math.min(y, view.height - extent.height));
+        viewport.setViewPosition(new Point(x, y));
+    }
+
+    private void updatePathStrokes() {
+        pathGlowStroke = new BasicStroke(cellSize * 0.85f, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND);
+        pathCoreStroke = new BasicStroke(cellSize * 0.4f, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND);
     }
 
     public void setLogArea(JTextArea logArea) {
@@ -38,510 +157,583 @@ public class MazePanel extends JPanel {
         }
     }
 
-    private void initGrid() {
-        grid = new Cell[ROWS][COLS];
-        for (int y = 0; y < ROWS; y++) {
-            for (int x = 0; x < COLS; x++) {
-                grid[y][x] = new Cell(x, y);
-            }
+    // --- ANIMATION ---
+
+    /**
+     * Animasi terpisah dari algoritma: worker mem-publish event ke StepRing
+     * secepat CPU, dan Timer ini (60 fps, di EDT) menerapkan stepsPerFrame event
+     * per frame. Pause berhenti menguras ring; skip menguras semuanya sekaligus.
+     */
+    private void animationFrame() {
+        Run r = run;
+        if (r == null) {
+            animator.stop();
+            return;
+        }
+        int budget = skipping ? Integer.MAX_VALUE : paused ? 0 : stepsPerFrame * r.lanes;
+        r.steps.drain(budget, r.apply);
+        if (r.steps.isDone()) {
+            animator.stop();
+            run = null;
+            Runnable done = r.onDone;
+            if (done != null) done.run();
         }
     }
 
-    // --- GENERATOR (ANIMATED) ---
-
-    public void generateMaze(String algorithm) {
-        if (isWorking) return; // Cegah double click saat proses berjalan
-
-        // Reset state visual sebelum thread dimulai
-        initGrid();
-        currentPath.clear();
-        currentProcessing = null;
-        startCell = null;
-        endCell = null;
-        repaint();
-
-        // Jalankan generator di Thread terpisah agar bisa di-animasi (sleep)
-        new Thread(() -> {
-            isWorking = true;
-            if (algorithm.contains("Kruskal")) { // Handle string "Kruskal's" dari UI
-                runKruskalAnimation();
-            } else {
-                runPrimAnimation();
-            }
-
-            // Setelah struktur maze jadi, generate terrain dan titik start/end
-            generateTerrainOnly();
-            setupStartAndExit();
-
-            currentProcessing = null; // Hapus highlight proses
-            resetVisited(); // Pastikan bersih untuk solver
-            isWorking = false;
-            SwingUtilities.invokeLater(this::repaint);
-            log(">> Dungeon Ready for Adventure!");
-        }).start();
+    /**
+     * Satu job UI: worker di scheduler plus ring event miliknya sendiri, jadi
+     * produsen job lama yang belum sempat keluar tidak pernah menulis ke ring job baru.
+     */
+    private static final class Run {
+        final boolean generating;
+        final int lanes; // Jumlah solver yang dianimasikan bersamaan; speed berlaku per solver
+        final StepListener apply; // Dijalankan di EDT untuk setiap event
+        final StepRing steps = new StepRing(1 << 16);
+        volatile Runnable onDone; // Diisi worker, dijalankan di EDT setelah animasi habis
+        JobScheduler.Job worker;
+
+        Run(boolean generating, int lanes, StepListener apply) {
+            this.generating = generating;
+            this.lanes = lanes;
+            this.apply = apply;
+        }
     }
 
     /**
-     * Best Practice Randomized Prim's:
-     * 1. Mulai dari satu sel acak.
-     * 2. Masukkan dinding tetangganya ke dalam daftar (frontier).
-     * 3. Pilih dinding acak dari frontier.
-     * 4. Jika sel di seberang dinding belum visited, hancurkan dinding dan jadikan sel itu bagian maze.
+     * Jadwalkan job baru dan mulai animasinya. Pemanggil (di EDT) sudah
+     * menghentikan job sebelumnya; work dijalankan di thread worker.
      */
-    private void runPrimAnimation() {
-        log("> Casting Prim's Algorithm...");
-
-        // List dinding (Wall) sebagai Frontier
-        List<Wall> walls = new ArrayList<>();
-        Random rand = new Random();
-
-        // Mulai dari pojok kiri atas (atau acak)
-        Cell start = grid[0][0];
-        start.visited = true; // Visited di sini artinya "Masuk ke dalam Maze"
-        addWalls(start, walls);
-
-        while (!walls.isEmpty()) {
-            // Ambil dinding acak dari frontier
-            int index = rand.nextInt(walls.size());
-            Wall wall = walls.remove(index);
-
-            Cell current = wall.cell1;
-            Cell next = wall.cell2;
-
-            if (!next.visited) {
-                // Hancurkan dinding
-                removeWall(current, next, wall.direction);
-                next.visited = true;
-
-                // Tambahkan dinding tetangga baru ke frontier
-                addWalls(next, walls);
-
-                // Visualisasi Animasi
-                currentProcessing = next;
-                SwingUtilities.invokeLater(this::repaint);
-                sleep(10); // Kecepatan animasi (makin kecil makin cepat)
+    private void startRun(boolean generating, int lanes, StepListener apply, Consumer<Run> work) {
+        Run r = new Run(generating, lanes, apply);
+        run = r;
+        skipping = false;
+        r.worker = scheduler.submit(() -> {
+            try {
+                work.accept(r);
+            } catch (CancellationException e) {
+                throw e; // Digantikan request yang lebih baru; animasinya sudah dihentikan
+            } catch (RuntimeException e) {
+                r.onDone = () -> log("> The spell fizzled: " + e);
+            } finally {
+                r.steps.finish();
             }
-        }
+        });
+        animator.start();
     }
 
     /**
-     * Best Practice Randomized Kruskal's:
-     * 1. Anggap setiap sel adalah set terpisah.
-     * 2. Kumpulkan semua kemungkinan dinding.
-     * 3. Acak urutan dinding.
-     * 4. Jika dua sel yang dipisahkan dinding berada di set berbeda, hancurkan dinding & gabungkan set.
+     * Putar ulang run yang sudah selesai ke ring animasi (di thread worker).
+     * Algoritma direkam ke Trace dengan kecepatan penuh, jadi waktu di RunMetrics
+     * tidak ikut menunggu animasi.
      */
-    private void runKruskalAnimation() {
-        log("> Casting Kruskal's Algorithm...");
-
-        List<Wall> allWalls = new ArrayList<>();
-        for (int y = 0; y < ROWS; y++) {
-            for (int x = 0; x < COLS; x++) {
-                if (x < COLS - 1) allWalls.add(new Wall(grid[y][x], grid[y][x+1], "right"));
-                if (y < ROWS - 1) allWalls.add(new Wall(grid[y][x], grid[y+1][x], "bottom"));
-            }
+    private static void replay(Trace trace, StepRing steps) {
+        Trace.Cursor c = trace.cursor(0);
+        while (c.hasNext()) {
+            Cancellation.check();
+            c.next();
+            steps.onStep(c.type, c.index);
         }
+    }
 
-        // Acak dinding untuk sifat random maze
-        Collections.shuffle(allWalls);
-
-        DisjointSet ds = new DisjointSet(COLS * ROWS);
-
-        int count = 0;
-        for (Wall w : allWalls) {
-            int id1 = w.cell1.y * COLS + w.cell1.x;
-            int id2 = w.cell2.y * COLS + w.cell2.x;
-
-            if (ds.find(id1) != ds.find(id2)) {
-                removeWall(w.cell1, w.cell2, w.direction);
-                ds.union(id1, id2);
+    /**
+     * Newest request wins: hentikan job aktif beserta animasinya tanpa menjalankan
+     * onDone-nya. Menunggu worker keluar (pembatalan kooperatif, biasanya dalam satu
+     * iterasi) sebelum EDT mengubah grid yang mungkin masih dibaca solver lama.
+     * Jika worker belum keluar setelah CANCEL_WAIT_MS, job-nya disimpan di lingering
+     * dan settled() menolak request baru sampai worker itu benar-benar selesai.
+     */
+    private boolean cancelRun() {
+        Run r = run;
+        if (r == null) return false;
+        run = null;
+        animator.stop();
+        r.steps.abandon();
+        r.worker.cancel();
+        if (!r.worker.await(CANCEL_WAIT_MS)) lingering = r.worker;
+        currentProcessing = null;
+        return true;
+    }
 
-                // Visualisasi Animasi (hanya update tiap beberapa langkah agar tidak terlalu lambat)
-                currentProcessing = w.cell2;
-                if (count++ % 2 == 0) {
-                    SwingUtilities.invokeLater(this::repaint);
-                    sleep(5);
-                }
-            }
+    /**
+     * true jika tidak ada worker lama yang masih berjalan, jadi EDT boleh mengubah
+     * grid dan engine. Jika masih ada, request baru ditolak (bukan diantre).
+     */
+    private boolean settled() {
+        if (lingering == null) return true;
+        if (!lingering.isDone()) {
+            log("> Previous spell is still winding down, try again in a moment.");
+            return false;
         }
-        SwingUtilities.invokeLater(this::repaint);
+        lingering = null;
+        return true;
     }
 
-    // --- SOLVERS ---
-
-    public void solveBFS() {
-        if (isWorking || startCell == null) return;
-        prepareSolver();
-        new Thread(this::runBFS).start();
+    private boolean isWorking() {
+        return run != null || (lingering != null && !lingering.isDone());
     }
 
-    public void solveDFS() {
-        if (isWorking || startCell == null) return;
-        prepareSolver();
-        new Thread(this::runDFS).start();
+    public void setStepsPerFrame(int steps) {
+        stepsPerFrame = Math.max(1, steps);
     }
 
-    public void solveDijkstra() {
-        if (isWorking || startCell == null) return;
-        prepareSolver();
-        new Thread(this::runDijkstra).start();
+    public void setPaused(boolean paused) {
+        this.paused = paused;
     }
 
-    public void solveAStar() {
-        if (isWorking || startCell == null) return;
-        prepareSolver();
-        new Thread(this::runAStar).start();
+    /** Lewati sisa animasi dan langsung tampilkan hasil akhir job yang sedang berjalan. */
+    public void skipToResult() {
+        skipping = true;
     }
 
-    private void prepareSolver() {
+    // --- GENERATOR (ANIMATED) ---
+
+    public void generateMaze(String algorithm) {
+        if (cancelRun()) log("> Previous spell interrupted.");
+        pendingSolve = null;
+        if (!settled()) return;
+
+        // Reset state visual sebelum job dimulai
+        setTrace(null);
+        race = null;
+        engine.initGrid();
         currentPath.clear();
         currentProcessing = null;
+        renderer.invalidateAll();
         repaint();
-        if (logArea != null) logArea.setText("");
-    }
-
-    // --- RUNNING ALGORITHMS (SOLVER) ---
-    // (Kode solver tetap sama, hanya menambahkan pengecekan isWorking = true/false)
-
-    private void runBFS() {
-        isWorking = true;
-        resetVisited();
-
-        // BFS
-        Queue<Cell> queue = new LinkedList<>();
-        Map<Cell, Cell> parentMap = new HashMap<>();
-
-        queue.add(startCell);
-        startCell.visited = true;
 
-        log("> Breadth-First Search (BFS) started.");
-
-        while (!queue.isEmpty()) {
-            Cell current = queue.poll();
-            currentProcessing = current;
-
-            SwingUtilities.invokeLater(this::repaint);
-            sleep(15);
-
-            if (current == endCell) {
-                log("> Exit found!");
-                reconstructPath(parentMap, current);
-                isWorking = false;
-                return;
+        // Generator berjalan di grid bayangan; animasi menyalin dinding yang sudah
+        // dihancurkan ke grid UI saat event-nya diputar, jadi tampilan tidak mendahului animasi.
+        PackedGrid shadow = new PackedGrid(COLS, ROWS);
+        MazeEngine shadowEngine = new MazeEngine(shadow);
+        boolean prim = !algorithm.contains("Kruskal");
+        long seed = new Random().nextLong();
+        Trace.Recorder recorder = new Trace.Recorder(Trace.GENERATE, algorithm, COLS, ROWS, algorithm, seed);
+        startRun(true, 1, (type, index) -> revealCarve(shadow, index, prim), self -> {
+            if (prim) {
+                log("> Casting Prim's Algorithm...");
+            } else { // Handle string "Kruskal's" dari UI
+                log("> Casting Kruskal's Algorithm...");
             }
-
-            for (Cell neighbor : getAccessibleNeighbors(current)) {
-                if (!neighbor.visited) {
-                    neighbor.visited = true;
-                    parentMap.put(neighbor, current);
-                    queue.add(neighbor);
-                }
-            }
-        }
-        isWorking = false;
-        log("> No path found.");
-        SwingUtilities.invokeLater(this::repaint);
+            shadowEngine.generate(algorithm, seed, recorder);
+            RunMetrics metrics = shadowEngine.getLastMetrics();
+            Trace recorded = recorder.finish(new int[0]);
+            replay(recorded, self.steps);
+            self.onDone = () -> {
+                engine.copyFrom(shadowEngine); // Terrain, start/exit dan dinding yang belum terlihat
+                showFinishedMaze();
+                setTrace(recorded);
+                log(">> Dungeon Ready for Adventure!");
+                log("> Stats: " + metrics.summary());
+                Runnable next = pendingSolve;
+                pendingSolve = null;
+                if (next != null) next.run();
+            };
+        });
     }
 
-    private void runDFS() {
-        isWorking = true;
-        resetVisited();
-
-        // Stack
-        Stack<Cell> stack = new Stack<>();
-        Map<Cell, Cell> parentMap = new HashMap<>();
-
-        stack.push(startCell);
-        startCell.visited = true;
-
-        log("> Depth-First Search (DFS) started.");
-
-        while (!stack.isEmpty()) {
-            Cell current = stack.pop();
-            currentProcessing = current;
-
-            SwingUtilities.invokeLater(this::repaint);
-            sleep(15);
-
-            if (current == endCell) {
-                log("> Exit found!");
-                reconstructPath(parentMap, current);
-                isWorking = false;
-                return;
-            }
-
-            List<Cell> neighbors = getAccessibleNeighbors(current);
-            Collections.shuffle(neighbors);
+    /** Label, visited dan cache gambar untuk maze yang baru selesai / baru dimuat. */
+    private void showFinishedMaze() {
+        cells.resetVisited(); // Pastikan bersih untuk solver
+        cells.getCell(engine.getStartCell()).label = "Start";
+        cells.getCell(engine.getEndCell()).label = "EXIT";
+        currentPath.clear();
+        currentProcessing = null; // Hapus highlight proses
+        renderer.invalidateAll(); // Terrain & label baru
+        repaint();
+    }
 
-            for (Cell neighbor : neighbors) {
-                if (!neighbor.visited) {
-                    neighbor.visited = true;
-                    parentMap.put(neighbor, current);
-                    stack.push(neighbor);
-                }
+    /** Terapkan satu langkah CARVE: buka dinding sel ini yang sudah terbuka di grid bayangan. */
+    private void revealCarve(PackedGrid shadow, int index, boolean markVisited) {
+        for (int dir = 0; dir < 4; dir++) {
+            if (shadow.isOpen(index, dir) && !cells.isOpen(index, dir)) {
+                cells.openWall(index, dir);
+                renderer.invalidateCell(cells.neighbor(index, dir));
             }
         }
-        isWorking = false;
-        log("> No path found.");
-        SwingUtilities.invokeLater(this::repaint);
+        Cell cell = cells.getCell(index);
+        if (markVisited) cell.visited = true; // Visited di sini artinya "Masuk ke dalam Maze"
+        renderer.invalidateCell(index);
+        moveHighlight(cell);
     }
 
-    private void runDijkstra() {
-        isWorking = true;
-        resetVisited();
-        // PriorityQueue
-        PriorityQueue<Node> pq = new PriorityQueue<>(Comparator.comparingInt(n -> n.gCost));
-        Map<Cell, Integer> dist = new HashMap<>();
-        Map<Cell, Cell> parentMap = new HashMap<>();
+    // --- SAVE / LOAD ---
 
-        for(int y=0; y<ROWS; y++) for(int x=0; x<COLS; x++) dist.put(grid[y][x], Integer.MAX_VALUE);
-        dist.put(startCell, 0);
-        pq.add(new Node(startCell, 0, 0, null));
-
-        log("> Dijkstra started.");
+    public void saveMaze(java.io.File file) {
+        if (isWorking() || engine.getStartCell() < 0) return;
+        restoreFinalMaze();
+        try {
+            engine.save(file.toPath());
+            log("> Dungeon saved to " + file.getName() + " (seed " + engine.getSeed() + ").");
+        } catch (java.io.IOException e) {
+            log("> Failed to save dungeon: " + e.getMessage());
+        }
+    }
 
-        while (!pq.isEmpty()) {
-            Node node = pq.poll();
-            Cell current = node.cell;
+    public void loadMaze(java.io.File file) {
+        if (isWorking()) return;
+        try {
+            engine.load(file.toPath());
+        } catch (java.io.IOException | IllegalArgumentException e) {
+            log("> Failed to load dungeon: " + e.getMessage());
+            return;
+        }
+        setTrace(null);
+        race = null;
+        currentPath.clear();
+        currentProcessing = null;
+        if (engine.getStartCell() >= 0) cells.getCell(engine.getStartCell()).label = "Start";
+        if (engine.getEndCell() >= 0) cells.getCell(engine.getEndCell()).label = "EXIT";
+        renderer.invalidateAll();
+        repaint();
+        log(">> Dungeon loaded from " + file.getName() + " (" + engine.getGenerator() + ", seed " + engine.getSeed() + ").");
+    }
 
-            if (node.gCost > dist.get(current)) continue;
+    // --- TRACE (TIMELINE) ---
 
-            currentProcessing = current;
-            current.visited = true;
-            SwingUtilities.invokeLater(this::repaint);
-            sleep(15);
+    /** Dipanggil (di EDT) setiap kali trace run terakhir berganti; null = tidak ada trace. */
+    public void setTraceListener(Consumer<Trace> listener) {
+        this.traceListener = listener;
+    }
 
-            if (current == endCell) {
-                log("> Optimal path found (Cost: " + node.gCost + ")");
-                reconstructPath(parentMap, current);
-                isWorking = false;
-                return;
-            }
+    private void setTrace(Trace t) {
+        trace = t;
+        traceStep = t == null ? 0 : t.size();
+        traceMaze = t != null && t.kind.equals(Trace.GENERATE) ? PackedGrid.copyOf(cells) : null;
+        traceListener.accept(t);
+    }
 
-            for (Cell neighbor : getAccessibleNeighbors(current)) {
-                int newDist = dist.get(current) + neighbor.terrain.cost;
-                if (newDist < dist.get(neighbor)) {
-                    dist.put(neighbor, newDist);
-                    parentMap.put(neighbor, current);
-                    pq.add(new Node(neighbor, newDist, 0, null));
+    /**
+     * Tampilkan kondisi run terakhir setelah step event pertama, langsung dari
+     * keyframe trace (tanpa memutar ulang dari awal).
+     */
+    public void seekTrace(int step) {
+        if (isWorking() || trace == null) return;
+        step = Math.max(0, Math.min(step, trace.size()));
+        if (step == traceStep) return;
+        traceStep = step;
+        long[] visited = trace.visitedAt(step);
+
+        if (traceMaze != null) {
+            // Dinding terbuka jika terbuka di maze final dan salah satu sisinya sudah di-carve
+            boolean markVisited = !trace.name.contains("Kruskal") && step < trace.size();
+            cells.clear();
+            int n = cells.size();
+            for (int i = 0; i < n; i++) {
+                cells.setTerrain(i, traceMaze.getTerrain(i));
+                boolean carved = step == trace.size() || bit(visited, i);
+                for (int dir : new int[] {MazeGrid.RIGHT, MazeGrid.BOTTOM}) {
+                    int j = cells.neighbor(i, dir);
+                    if (traceMaze.isOpen(i, dir) && (carved || bit(visited, j))) cells.openWall(i, dir);
                 }
+                if (markVisited && bit(visited, i)) cells.getCell(i).visited = true;
+            }
+            engine.mazeChanged();
+            cells.getCell(engine.getStartCell()).label = "Start";
+            cells.getCell(engine.getEndCell()).label = "EXIT";
+            renderer.invalidateAll();
+            currentPath.clear();
+        } else {
+            cells.resetVisited();
+            for (int i = 0; i < cells.size(); i++) {
+                if (bit(visited, i)) cells.getCell(i).visited = true;
+            }
+            currentPath.clear();
+            if (step == trace.size()) {
+                for (int index : trace.path) currentPath.add(cells.getCell(index));
             }
         }
-        isWorking = false;
-        log("> No path found.");
-        SwingUtilities.invokeLater(this::repaint);
-    }
 
-    private void runAStar() {
-        isWorking = true;
-        resetVisited();
-        PriorityQueue<Node> pq = new PriorityQueue<>(Comparator.comparingInt(n -> n.fCost));
-        Map<Cell, Integer> gScore = new HashMap<>();
-        Map<Cell, Cell> parentMap = new HashMap<>();
+        Cell processing = null;
+        if (step > 0 && step < trace.size()) processing = cells.getCell(trace.cursor(step - 1).nextIndex());
+        currentProcessing = processing;
+        repaint();
+    }
 
-        for(int y=0; y<ROWS; y++) for(int x=0; x<COLS; x++) gScore.put(grid[y][x], Integer.MAX_VALUE);
-        gScore.put(startCell, 0);
-        int hStart = getHeuristic(startCell, endCell);
-        pq.add(new Node(startCell, 0, hStart, null));
+    /** Kembalikan maze utuh jika timeline trace generate sedang di tengah jalan. */
+    private void restoreFinalMaze() {
+        if (traceMaze != null && traceStep != trace.size()) seekTrace(trace.size());
+    }
 
-        log("> A* Search started.");
+    private static boolean bit(long[] bits, int i) {
+        return (bits[i >>> 6] & (1L << i)) != 0;
+    }
 
-        while (!pq.isEmpty()) {
-            Node node = pq.poll();
-            Cell current = node.cell;
+    public void saveTrace(java.io.File file) {
+        if (isWorking() || trace == null) return;
+        try {
+            trace.save(file.toPath());
+            log("> Trace saved to " + file.getName() + " (" + trace.size() + " steps, " + trace.encodedBytes() + " bytes).");
+        } catch (java.io.IOException e) {
+            log("> Failed to save trace: " + e.getMessage());
+        }
+    }
 
-            if (node.gCost > gScore.get(current)) continue;
+    /**
+     * Muat trace. Jika trace direkam di dungeon lain, dungeon itu di-generate
+     * ulang dari generator + seed di header trace.
+     */
+    public void loadTrace(java.io.File file) {
+        if (isWorking()) return;
+        Trace loaded;
+        try {
+            loaded = Trace.load(file.toPath());
+        } catch (java.io.IOException e) {
+            log("> Failed to load trace: " + e.getMessage());
+            return;
+        }
+        if (loaded.cols != COLS || loaded.rows != ROWS) {
+            log("> Trace is for a " + loaded.cols + "x" + loaded.rows + " dungeon, this one is " + COLS + "x" + ROWS + ".");
+            return;
+        }
+        restoreFinalMaze();
+        if (loaded.mazeSeed != engine.getSeed() || !loaded.mazeGenerator.equals(engine.getGenerator())) {
+            engine.generate(loaded.mazeGenerator, loaded.mazeSeed, StepListener.NONE);
+            log("> Rebuilt dungeon " + loaded.mazeGenerator + " (seed " + loaded.mazeSeed + ") for this trace.");
+        }
+        showFinishedMaze();
+        race = null;
+        setTrace(loaded);
+        traceStep = -1;
+        seekTrace(loaded.size());
+        log(">> Trace loaded: " + loaded.name + ", " + loaded.size() + " steps.");
+    }
 
-            currentProcessing = current;
-            current.visited = true;
-            SwingUtilities.invokeLater(this::repaint);
-            sleep(15);
+    // --- SOLVERS ---
 
-            if (current == endCell) {
-                log("> Path found!");
-                reconstructPath(parentMap, current);
-                isWorking = false;
-                return;
-            }
+    public void solveBFS() {
+        startSolver("BFS", "> Breadth-First Search (BFS) started.");
+    }
 
-            for (Cell neighbor : getAccessibleNeighbors(current)) {
-                int tentativeG = gScore.get(current) + neighbor.terrain.cost;
-                if (tentativeG < gScore.get(neighbor)) {
-                    gScore.put(neighbor, tentativeG);
-                    parentMap.put(neighbor, current);
-                    int hCost = getHeuristic(neighbor, endCell);
-                    pq.add(new Node(neighbor, tentativeG, hCost, null));
-                }
-            }
-        }
-        isWorking = false;
-        log("> No path found.");
-        SwingUtilities.invokeLater(this::repaint);
+    public void solveDFS() {
+        startSolver("DFS", "> Depth-First Search (DFS) started.");
     }
 
-    // --- UTILITIES ---
+    public void solveDijkstra() {
+        startSolver("Dijkstra", "> Dijkstra started.");
+    }
 
-    private int getHeuristic(Cell a, Cell b) {
-        if (b == null) return 0;
-        return Math.abs(a.x - b.x) + Math.abs(a.y - b.y);
+    public void solveAStar() {
+        startSolver("A*", "> A* Search started.");
     }
 
-    private void reconstructPath(Map<Cell, Cell> parentMap, Cell current) {
-        List<Cell> path = new ArrayList<>();
-        while (current != null) {
-            path.add(current);
-            current = parentMap.get(current);
+    private void startSolver(String solver, String startMessage) {
+        if (run != null && run.generating) {
+            // Maze belum jadi: percepat generate, lalu jalankan solve yang terakhir diminta
+            pendingSolve = () -> startSolver(solver, startMessage);
+            skipping = true;
+            return;
         }
-        Collections.reverse(path);
-
-        SwingUtilities.invokeLater(() -> {
-            this.currentPath.clear();
-            this.currentPath.addAll(path);
-            this.currentProcessing = null;
-            repaint();
+        if (engine.getStartCell() < 0) return;
+        cancelRun(); // Newest request wins: solve baru menggantikan solve yang sedang berjalan
+        if (!settled()) return;
+        restoreFinalMaze();
+        setTrace(null);
+        prepareSolver();
+        cells.resetVisited();
+        repaint();
+        log(startMessage);
+
+        Trace.Recorder recorder = new Trace.Recorder(Trace.SOLVE, solver, COLS, ROWS, engine.getGenerator(), engine.getSeed());
+        startRun(false, 1, (type, index) -> {
+            Cell cell = cells.getCell(index);
+            cell.visited = true;
+            moveHighlight(cell);
+        }, self -> {
+            SolveResult result = engine.solve(solver, recorder);
+            RunMetrics metrics = engine.getLastMetrics();
+            Trace recorded = recorder.finish(result.path);
+            replay(recorded, self.steps);
+            // Hasil baru ditampilkan setelah animasi selesai diputar (atau di-skip)
+            self.onDone = () -> {
+                if (result.found()) {
+                    if (solver.equals("Dijkstra")) log("> Optimal path found (Cost: " + result.cost + ")");
+                    else if (solver.equals("A*")) log("> Path found!");
+                    else log("> Exit found!");
+                    showPath(result);
+                } else {
+                    log("> No path found.");
+                    currentProcessing = null;
+                    repaint();
+                }
+                log("> Stats: " + metrics.summary());
+                setTrace(recorded);
+            };
         });
-
-        log("[Finished] Distance: " + path.size());
     }
 
-    private void generateTerrainOnly() {
-        Random r = new Random();
-        for (int y = 0; y < ROWS; y++) {
-            for (int x = 0; x < COLS; x++) {
-                double chance = r.nextDouble();
-                if (chance < 0.50) grid[y][x].setTerrain(Terrain.DIRT);
-                else if (chance < 0.75) grid[y][x].setTerrain(Terrain.GRASS);
-                else if (chance < 0.90) grid[y][x].setTerrain(Terrain.MUD);
-                else grid[y][x].setTerrain(Terrain.WATER);
-            }
+    // --- RACE MODE ---
+
+    /**
+     * Balapan BFS, DFS, Dijkstra dan A* bersamaan pada snapshot beku dungeon ini
+     * (lihat SolverRace). Setelah semua selesai, ekspansi mereka diputar ulang
+     * bergiliran (satu langkah per solver per putaran) di RaceOverlay, lalu
+     * waktu, jumlah sel yang di-expand dan cost tiap solver ditulis ke log.
+     */
+    public void raceSolvers() {
+        if (run != null && run.generating) {
+            pendingSolve = this::raceSolvers; // Sama seperti solve biasa: tunggu maze jadi
+            skipping = true;
+            return;
         }
-    }
+        if (engine.getStartCell() < 0) return;
+        cancelRun();
+        if (!settled()) return;
+        restoreFinalMaze();
+        setTrace(null);
+        prepareSolver();
+        cells.resetVisited();
 
-    private void setupStartAndExit() {
-        Random rand = new Random();
-        startCell = grid[0][0];
-        startCell.label = "Start";
-        int ex = rand.nextInt(COLS / 3) + (COLS * 2 / 3);
-        int ey = rand.nextInt(ROWS);
-        endCell = grid[ey][ex];
-        endCell.label = "EXIT";
-        endCell.setTerrain(Terrain.DIRT);
-    }
+        String[] solvers = SolverRace.DEFAULT_SOLVERS;
+        RaceOverlay overlay = new RaceOverlay(COLS, ROWS, solvers.length);
+        SolverRace.Entry[] results = new SolverRace.Entry[solvers.length]; // Diisi worker sebelum event pertama
+        int[] place = {0};
+        race = overlay;
+        repaint();
+        log("> Race started: " + String.join(" vs ", solvers) + " on a frozen snapshot.");
+        MazeEngine snapshot = engine.snapshot();
+
+        startRun(false, solvers.length, (type, index) -> {
+            if ((type & RACE_FINISH) != 0) {
+                int lane = type & ~RACE_FINISH;
+                SolveResult result = results[lane].result;
+                overlay.finish(lane, result.path);
+                log("> #" + (++place[0]) + " " + results[lane].solver + " reached "
+                        + (result.found() ? "the exit" : "a dead end") + " after " + result.explored + " steps.");
+                repaint();
+                return;
+            }
+            int previous = overlay.visit(type, index);
+            if (previous >= 0) repaint(renderer.cellBounds(previous));
+            repaint(renderer.cellBounds(index));
+        }, self -> {
+            List<SolverRace.Entry> entries = SolverRace.run(snapshot, solvers);
+            entries.toArray(results);
+
+            // Replay bergiliran: animasi membandingkan jumlah langkah, log membandingkan waktu
+            Trace.Cursor[] cursors = new Trace.Cursor[results.length];
+            for (int lane = 0; lane < cursors.length; lane++) cursors[lane] = results[lane].trace.cursor(0);
+            boolean running = true;
+            while (running) {
+                Cancellation.check();
+                running = false;
+                for (int lane = 0; lane < cursors.length; lane++) {
+                    Trace.Cursor c = cursors[lane];
+                    if (c == null) continue;
+                    if (c.hasNext()) {
+                        self.steps.onStep(lane, c.nextIndex());
+                        running = true;
+                    } else {
+                        self.steps.onStep(lane | RACE_FINISH, 0);
+                        cursors[lane] = null;
+                    }
+                }
+            }
 
-    private List<Cell> getAccessibleNeighbors(Cell c) {
-        List<Cell> list = new ArrayList<>();
-        if (!c.walls[0] && isValid(c.x, c.y - 1)) list.add(grid[c.y - 1][c.x]);
-        if (!c.walls[1] && isValid(c.x + 1, c.y)) list.add(grid[c.y][c.x + 1]);
-        if (!c.walls[2] && isValid(c.x, c.y + 1)) list.add(grid[c.y + 1][c.x]);
-        if (!c.walls[3] && isValid(c.x - 1, c.y)) list.add(grid[c.y][c.x - 1]);
-        return list;
+            self.onDone = () -> {
+                log(">> Race results:");
+                for (int lane = 0; lane < results.length; lane++) {
+                    SolverRace.Entry e = results[lane];
+                    log("> " + e.solver + " [" + RaceOverlay.LANE_COLOR_NAMES[lane] + "]: cost "
+                            + (e.result.found() ? String.valueOf(e.result.cost) : "-") + ", " + e.metrics.summary());
+                }
+                currentProcessing = null;
+                repaint();
+            };
+        });
     }
 
-    private void addWalls(Cell c, List<Wall> walls) {
-        if (isValid(c.x, c.y-1)) walls.add(new Wall(c, grid[c.y-1][c.x], "top"));
-        if (isValid(c.x+1, c.y)) walls.add(new Wall(c, grid[c.y][c.x+1], "right"));
-        if (isValid(c.x, c.y+1)) walls.add(new Wall(c, grid[c.y+1][c.x], "bottom"));
-        if (isValid(c.x-1, c.y)) walls.add(new Wall(c, grid[c.y][c.x-1], "left"));
+    private void prepareSolver() {
+        race = null;
+        currentPath.clear();
+        currentProcessing = null;
+        repaint();
+        if (logArea != null) logArea.setText("");
     }
 
-    private void removeWall(Cell c, Cell n, String dir) {
-        switch (dir) {
-            case "top": c.walls[0] = false; n.walls[2] = false; break;
-            case "right": c.walls[1] = false; n.walls[3] = false; break;
-            case "bottom": c.walls[2] = false; n.walls[0] = false; break;
-            case "left": c.walls[3] = false; n.walls[1] = false; break;
-        }
-    }
+    // --- UTILITIES ---
 
-    private boolean isValid(int x, int y) {
-        return x >= 0 && x < COLS && y >= 0 && y < ROWS;
-    }
+    private void showPath(SolveResult result) {
+        List<Cell> path = new ArrayList<>(result.path.length);
+        for (int index : result.path) path.add(cells.getCell(index));
 
-    private void resetVisited() {
-        for (int y = 0; y < ROWS; y++) {
-            for (int x = 0; x < COLS; x++) {
-                grid[y][x].visited = false;
-            }
-        }
-    }
+        currentPath.clear();
+        currentPath.addAll(path);
+        currentProcessing = null;
+        repaint();
 
-    private void sleep(int millis) {
-        try { Thread.sleep(millis); } catch (InterruptedException e) {}
+        // Cost terrain (sel start tidak dihitung), bukan jumlah sel
+        log("[Finished] Cost: " + result.cost + " (" + (path.size() - 1) + " steps)");
     }
 
-    class DisjointSet {
-        int[] parent;
-        public DisjointSet(int n) {
-            parent = new int[n];
-            for (int i = 0; i < n; i++) parent[i] = i;
-        }
-        int find(int i) {
-            if (parent[i] == i) return i;
-            return parent[i] = find(parent[i]);
-        }
-        void union(int i, int j) {
-            int rootA = find(i);
-            int rootB = find(j);
-            if (rootA != rootB) parent[rootA] = rootB;
-        }
+    /**
+     * Pindahkan highlight "sedang diproses" dan repaint hanya area sel lama dan
+     * baru (dirty region), bukan seluruh panel.
+     */
+    private void moveHighlight(Cell cell) {
+        Cell previous = currentProcessing;
+        currentProcessing = cell;
+        if (previous != null) repaint(renderer.cellBounds(cells.index(previous.x, previous.y)));
+        repaint(renderer.cellBounds(cells.index(cell.x, cell.y)));
     }
 
     @Override
     protected void paintComponent(Graphics g) {
         super.paintComponent(g);
+        Graphics2D g2 = (Graphics2D) g;
+        Rectangle clip = g.getClipBounds();
+        if (clip == null) clip = new Rectangle(0, 0, getWidth(), getHeight());
+        Cell startCell = engine.getStartCell() < 0 ? null : cells.getCell(engine.getStartCell());
 
-        for (int y = 0; y < ROWS; y++) {
-            for (int x = 0; x < COLS; x++) {
-                grid[y][x].drawTerrain(g, CELL_SIZE);
-            }
-        }
-        for (int y = 0; y < ROWS; y++) {
-            for (int x = 0; x < COLS; x++) {
-                grid[y][x].drawWalls(g, CELL_SIZE);
-            }
-        }
+        // Lantai & dinding dari cache tile, jejak visited hanya untuk sel di dalam clip
+        RaceOverlay raceOverlay = race;
+        renderer.paint(g2, clip, raceOverlay);
+        if (raceOverlay != null) raceOverlay.paintMarkers(g2, clip, cellSize);
 
         // Highlight sel yang sedang diproses (untuk animasi)
-        if (currentProcessing != null) {
-            g.setColor(new Color(255, 200, 0, 180)); // Warna emas terang
-            g.fillRect(currentProcessing.x * CELL_SIZE + 5, currentProcessing.y * CELL_SIZE + 5, CELL_SIZE - 10, CELL_SIZE - 10);
-            g.setColor(Color.WHITE);
-            g.drawRect(currentProcessing.x * CELL_SIZE + 5, currentProcessing.y * CELL_SIZE + 5, CELL_SIZE - 10, CELL_SIZE - 10);
+        int size = cellSize;
+        Cell processing = currentProcessing;
+        if (processing != null) {
+            int inset = size / 6;
+            g.setColor(PROCESSING_FILL);
+            g.fillRect(processing.x * size + inset, processing.y * size + inset, size - 2 * inset, size - 2 * inset);
+            if (size >= Cell.DETAIL_SIZE) {
+                g.setColor(Color.WHITE);
+                g.drawRect(processing.x * size + inset, processing.y * size + inset, size - 2 * inset, size - 2 * inset);
+            }
         }
 
         if (currentPath.size() > 1) {
-            Graphics2D g2 = (Graphics2D) g;
             g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-            int half = CELL_SIZE / 2;
-
-            g2.setColor(new Color(255, 255, 220, 160));
-            float baseStrokeWidth = CELL_SIZE * 0.85f;
-            g2.setStroke(new BasicStroke(baseStrokeWidth, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND));
-
-            for (int i = 0; i < currentPath.size() - 1; i++) {
-                Cell c1 = currentPath.get(i);
-                Cell c2 = currentPath.get(i+1);
-                g2.drawLine(c1.x * CELL_SIZE + half, c1.y * CELL_SIZE + half,
-                        c2.x * CELL_SIZE + half, c2.y * CELL_SIZE + half);
-            }
-
-            g2.setColor(new Color(255, 50, 50, 120));
-            g2.setStroke(new BasicStroke(CELL_SIZE * 0.4f, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND));
-
-            for (int i = 0; i < currentPath.size() - 1; i++) {
-                Cell c1 = currentPath.get(i);
-                Cell c2 = currentPath.get(i+1);
-                g2.drawLine(c1.x * CELL_SIZE + half, c1.y * CELL_SIZE + half,
-                        c2.x * CELL_SIZE + half, c2.y * CELL_SIZE + half);
-            }
+            g2.setColor(PATH_GLOW);
+            g2.setStroke(pathGlowStroke);
+            drawPath(g2, clip);
+            g2.setColor(PATH_CORE);
+            g2.setStroke(pathCoreStroke);
+            drawPath(g2, clip);
         }
 
         if (startCell != null) {
+            int inset = size * 8 / DEFAULT_CELL_SIZE;
+            int d = Math.max(1, size - 2 * inset);
             g.setColor(Color.BLUE);
-            g.fillOval(startCell.x * CELL_SIZE + 8, startCell.y * CELL_SIZE + 8, CELL_SIZE - 16, CELL_SIZE - 16);
+            g.fillOval(startCell.x * size + inset, startCell.y * size + inset, d, d);
             g.setColor(Color.WHITE);
-            ((Graphics2D)g).setStroke(new BasicStroke(2));
-            g.drawOval(startCell.x * CELL_SIZE + 8, startCell.y * CELL_SIZE + 8, CELL_SIZE - 16, CELL_SIZE - 16);
+            g2.setStroke(START_RING);
+            g.drawOval(startCell.x * size + inset, startCell.y * size + inset, d, d);
+        }
+    }
+
+    /** Segmen jalur yang menyentuh clip saja. */
+    private void drawPath(Graphics2D g2, Rectangle clip) {
+        int size = cellSize;
+        int half = size / 2;
+        Rectangle area = new Rectangle(clip.x - size, clip.y - size, clip.width + 2 * size, clip.height + 2 * size);
+        for (int i = 0; i < currentPath.size() - 1; i++) {
+            Cell c1 = currentPath.get(i);
+            Cell c2 = currentPath.get(i + 1);
+            int x1 = c1.x * size + half, y1 = c1.y * size + half;
+            if (!area.contains(x1, y1)) continue;
+            g2.drawLine(x1, y1, c2.x * size + half, c2.y * size + half);
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,280 @@
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Renderer berlapis untuk MazePanel.
+ *
+ * Lapisan statis (lantai + dekorasi terrain, dinding + tiang + label) jarang
+ * berubah, jadi digambar sekali ke tile BufferedImage 256 x 256 px lalu cukup
+ * di-blit setiap frame. Tile dibuat saat pertama terlihat dan disimpan dalam
+ * cache LRU berukuran tetap, sehingga maze besar tidak butuh satu image raksasa.
+ * Tile hanya dibuang jika sel di dalamnya berubah (invalidateCell) atau seluruh
+ * maze diganti (invalidateAll).
+ *
+ * Jejak visited adalah lapisan dinamis di antara lantai dan dinding: image
+ * 1 px per sel yang diisi dari Cell.visited (hanya sel di dalam clip) lalu
+ * diskalakan nearest-neighbour; jauh lebih murah daripada fillRect transparan
+ * per sel. Dengan repaint(x, y, w, h) per langkah solver, satu frame animasi
+ * hanya menyentuh beberapa sel.
+ *
+ * Di bawah LOD_SIZE px per sel (zoom jauh) tile dan dekorasi dilewati: maze
+ * digambar dari satu image downsampled 2 x 2 px per sel (lantai, dinding kanan,
+ * dinding bawah, tiang) yang diskalakan nearest-neighbour. Seperti tile, image
+ * ini hanya diperbarui per blok LOD_BLOCK x LOD_BLOCK sel yang berubah; dibangun
+ * ulang penuh hanya setelah invalidateAll.
+ *
+ * invalidateCell/invalidateAll boleh dipanggil dari thread worker; paint hanya di EDT.
+ */
+public class MazeRenderer {
+    private static final int TILE_PX = 256;
+    private static final int MAX_TILES = 96; // ~48 MB (lantai RGB + dinding ARGB)
+    private static final Color BACKGROUND = new Color(35, 30, 25);
+    // Tiang dan dinding menonjol 4 px ke sel tetangga, jadi tile digambar dengan margin satu sel
+    private static final int OVERHANG = 4;
+    /** Di bawah ukuran sel ini renderer memakai level-of-detail. */
+    public static final int LOD_SIZE = 8;
+    private static final int WALL_RGB = new Color(48, 32, 0).getRGB();
+    private static final int VISITED_ARGB = new Color(40, 30, 30, 180).getRGB();
+    private static final int LOD_BLOCK = 64; // Sel per sisi blok image LOD yang digambar ulang bersama
+
+    private final CellGrid cells;
+    private volatile int cellSize;
+
+    private BufferedImage lodMaze;    // 2 x 2 px per sel, dibangun ulang penuh saat lodDirty
+    private BufferedImage visitedLayer; // 1 px per sel, diisi ulang setiap frame untuk area clip
+    private volatile boolean lodDirty = true;
+    private final Set<Long> dirtyLodBlocks = ConcurrentHashMap.newKeySet();
+
+    /** Sepasang image untuk satu tile: lantai (opaque) dan dinding (transparan). */
+    private static final class Tile {
+        final BufferedImage floor, walls;
+
+        Tile(BufferedImage floor, BufferedImage walls) {
+            this.floor = floor;
+            this.walls = walls;
+        }
+    }
+
+    private final LinkedHashMap<Long, Tile> tiles = new LinkedHashMap<Long, Tile>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Tile> eldest) {
+            return size() > MAX_TILES;
+        }
+    };
+    private final Set<Long> dirtyTiles = ConcurrentHashMap.newKeySet();
+    private volatile boolean allDirty;
+
+    public MazeRenderer(CellGrid cells, int cellSize) {
+        this.cells = cells;
+        this.cellSize = cellSize;
+    }
+
+    public int getCellSize() {
+        return cellSize;
+    }
+
+    /** Ganti zoom; semua tile dibuang karena digambar untuk ukuran sel lama. */
+    public void setCellSize(int cellSize) {
+        this.cellSize = cellSize;
+        invalidateAll();
+    }
+
+    /** Buang semua tile, misal setelah generate atau load. */
+    public void invalidateAll() {
+        allDirty = true;
+        lodDirty = true;
+    }
+
+    /** Dinding atau terrain sel ini berubah: buang tile yang menyentuhnya. */
+    public void invalidateCell(int index) {
+        int cols = cells.cols();
+        int x = index % cols, y = index / cols;
+        // Dinding kiri / atas sel ini digambar sebagai dinding kanan / bawah tetangganya
+        dirtyLodBlocks.add(key(x / LOD_BLOCK, y / LOD_BLOCK));
+        if (x > 0) dirtyLodBlocks.add(key((x - 1) / LOD_BLOCK, y / LOD_BLOCK));
+        if (y > 0) dirtyLodBlocks.add(key(x / LOD_BLOCK, (y - 1) / LOD_BLOCK));
+
+        Rectangle r = cellBounds(index);
+        for (int ty = r.y / TILE_PX; ty <= (r.y + r.height) / TILE_PX; ty++) {
+            for (int tx = r.x / TILE_PX; tx <= (r.x + r.width) / TILE_PX; tx++) {
+                dirtyTiles.add(key(tx, ty));
+            }
+        }
+    }
+
+    /** Area layar sel ini termasuk bagian tiang yang menonjol ke tetangga. */
+    public Rectangle cellBounds(int index) {
+        int cellSize = this.cellSize;
+        int x = index % cells.cols(), y = index / cells.cols();
+        return new Rectangle(Math.max(0, x * cellSize - OVERHANG), Math.max(0, y * cellSize - OVERHANG),
+                cellSize + 2 * OVERHANG, cellSize + 2 * OVERHANG);
+    }
+
+    /** Gambar lantai, jejak visited dan dinding untuk area clip. */
+    public void paint(Graphics2D g, Rectangle clip) {
+        paint(g, clip, null);
+    }
+
+    /** Sama dengan paint(g, clip), plus jejak race mode (boleh null) di bawah dinding. */
+    public void paint(Graphics2D g, Rectangle clip, RaceOverlay race) {
+        if (allDirty) {
+            allDirty = false;
+            tiles.clear();
+            dirtyTiles.clear();
+        }
+        for (Long k : dirtyTiles) {
+            dirtyTiles.remove(k);
+            tiles.remove(k);
+        }
+        int cellSize = this.cellSize;
+        if (cellSize < LOD_SIZE) {
+            paintLod(g, clip, cellSize);
+            if (race != null) race.paintTrails(g, clip, cellSize);
+            return;
+        }
+
+        int width = cells.cols() * cellSize, height = cells.rows() * cellSize;
+        int tx0 = Math.max(0, clip.x / TILE_PX), ty0 = Math.max(0, clip.y / TILE_PX);
+        int tx1 = Math.min((width - 1) / TILE_PX, (clip.x + clip.width - 1) / TILE_PX);
+        int ty1 = Math.min((height - 1) / TILE_PX, (clip.y + clip.height - 1) / TILE_PX);
+
+        for (int ty = ty0; ty <= ty1; ty++) {
+            for (int tx = tx0; tx <= tx1; tx++) {
+                g.drawImage(tile(tx, ty).floor, tx * TILE_PX, ty * TILE_PX, null);
+            }
+        }
+
+        paintVisited(g, clip, cellSize);
+        if (race != null) race.paintTrails(g, clip, cellSize);
+
+        for (int ty = ty0; ty <= ty1; ty++) {
+            for (int tx = tx0; tx <= tx1; tx++) {
+                g.drawImage(tile(tx, ty).walls, tx * TILE_PX, ty * TILE_PX, null);
+            }
+        }
+    }
+
+    // --- LEVEL OF DETAIL ---
+
+    private void paintLod(Graphics2D g, Rectangle clip, int cellSize) {
+        int cols = cells.cols(), rows = cells.rows();
+        if (lodDirty || lodMaze == null) {
+            lodDirty = false;
+            dirtyLodBlocks.clear(); // Sel yang berubah setelah ini tetap tercatat untuk frame berikutnya
+            if (lodMaze == null) lodMaze = new BufferedImage(2 * cols, 2 * rows, BufferedImage.TYPE_INT_RGB);
+            renderLod(0, 0, cols, rows);
+        } else {
+            for (Long k : dirtyLodBlocks) {
+                dirtyLodBlocks.remove(k);
+                int x0 = (int) (long) k * LOD_BLOCK, y0 = (int) (k >>> 32) * LOD_BLOCK;
+                renderLod(x0, y0, Math.min(cols, x0 + LOD_BLOCK), Math.min(rows, y0 + LOD_BLOCK));
+            }
+        }
+
+        g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
+        g.drawImage(lodMaze, 0, 0, cols * cellSize, rows * cellSize, null);
+        paintVisited(g, clip, cellSize);
+    }
+
+    /** Gambar sel [x0, x1) x [y0, y1) ke image LOD. */
+    private void renderLod(int x0, int y0, int x1, int y1) {
+        Cell[][] grid = cells.getCells();
+        int[] px = pixels(lodMaze);
+        int stride = 2 * cells.cols();
+        for (int y = y0; y < y1; y++) {
+            for (int x = x0; x < x1; x++) {
+                Cell c = grid[y][x];
+                int floor = c.terrain.color.getRGB();
+                int i = 2 * y * stride + 2 * x;
+                px[i] = floor;
+                px[i + 1] = c.walls[MazeGrid.RIGHT] ? WALL_RGB : floor;
+                px[i + stride] = c.walls[MazeGrid.BOTTOM] ? WALL_RGB : floor;
+                px[i + stride + 1] = WALL_RGB;
+            }
+        }
+    }
+
+    // --- VISITED ---
+
+    private void paintVisited(Graphics2D g, Rectangle clip, int cellSize) {
+        int cols = cells.cols(), rows = cells.rows();
+        Cell[][] grid = cells.getCells();
+        if (visitedLayer == null) visitedLayer = new BufferedImage(cols, rows, BufferedImage.TYPE_INT_ARGB);
+        int[] visited = pixels(visitedLayer);
+
+        int cx0 = Math.max(0, clip.x / cellSize), cy0 = Math.max(0, clip.y / cellSize);
+        int cx1 = Math.min(cols - 1, (clip.x + clip.width) / cellSize);
+        int cy1 = Math.min(rows - 1, (clip.y + clip.height) / cellSize);
+        boolean any = false;
+        for (int y = cy0; y <= cy1; y++) {
+            for (int x = cx0; x <= cx1; x++) {
+                boolean v = grid[y][x].visited;
+                visited[y * cols + x] = v ? VISITED_ARGB : 0;
+                any |= v;
+            }
+        }
+        if (!any) return;
+
+        // Hanya bagian image yang sesuai clip yang diskalakan
+        g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
+        g.drawImage(visitedLayer, cx0 * cellSize, cy0 * cellSize, (cx1 + 1) * cellSize, (cy1 + 1) * cellSize,
+                cx0, cy0, cx1 + 1, cy1 + 1, null);
+    }
+
+    private static int[] pixels(BufferedImage img) {
+        return ((DataBufferInt) img.getRaster().getDataBuffer()).getData();
+    }
+
+    // --- TILES ---
+
+    private Tile tile(int tx, int ty) {
+        Long k = key(tx, ty);
+        Tile tile = tiles.get(k);
+        if (tile == null) {
+            tile = render(tx, ty);
+            tiles.put(k, tile);
+        }
+        return tile;
+    }
+
+    private Tile render(int tx, int ty) {
+        int cellSize = this.cellSize;
+        int ox = tx * TILE_PX, oy = ty * TILE_PX;
+        BufferedImage floor = new BufferedImage(TILE_PX, TILE_PX, BufferedImage.TYPE_INT_RGB);
+        BufferedImage walls = new BufferedImage(TILE_PX, TILE_PX, BufferedImage.TYPE_INT_ARGB);
+
+        // Sel yang menyentuh tile, plus satu sel margin untuk tiang yang menonjol
+        Cell[][] grid = cells.getCells();
+        int cx0 = Math.max(0, ox / cellSize - 1), cy0 = Math.max(0, oy / cellSize - 1);
+        int cx1 = Math.min(cells.cols() - 1, (ox + TILE_PX) / cellSize + 1);
+        int cy1 = Math.min(cells.rows() - 1, (oy + TILE_PX) / cellSize + 1);
+
+        Graphics2D g = floor.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g.setColor(BACKGROUND);
+        g.fillRect(0, 0, TILE_PX, TILE_PX);
+        g.translate(-ox, -oy);
+        for (int y = cy0; y <= cy1; y++) {
+            for (int x = cx0; x <= cx1; x++) grid[y][x].drawTerrain(g, cellSize);
+        }
+        g.dispose();
+
+        g = walls.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g.translate(-ox, -oy);
+        for (int y = cy0; y <= cy1; y++) {
+            for (int x = cx0; x <= cx1; x++) grid[y][x].drawWalls(g, cellSize);
+        }
+        g.dispose();
+        return new Tile(floor, walls);
+    }
+
+    private static long key(int tx, int ty) {
+        return (long) ty << 32 | tx;
+    }
+}
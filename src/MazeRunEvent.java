@@ -0,0 +1,69 @@
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Event JFR untuk satu run generator / solver (lihat RunMetrics). Durasi event
+ * adalah durasi run. Aktif saat recording berjalan, misal:
+ *   java -XX:StartFlightRecording=filename=maze.jfr,settings=profile Main
+ *   jfr print --events mazepuzzle.Run maze.jfr
+ */
+@Name("mazepuzzle.Run")
+@Label("Maze Run")
+@Category({"MazePuzzle"})
+@Description("One maze generator or solver run")
+@StackTrace(false)
+class MazeRunEvent extends Event {
+    @Label("Kind")
+    String kind;
+
+    @Label("Algorithm")
+    String algorithm;
+
+    @Label("Heuristic")
+    String heuristic;
+
+    @Label("Columns")
+    int cols;
+
+    @Label("Rows")
+    int rows;
+
+    @Label("Cells Expanded")
+    long expanded;
+
+    @Label("Relaxations")
+    long relaxations;
+
+    @Label("Peak Frontier")
+    long peakFrontier;
+
+    @Label("Allocated")
+    @DataAmount
+    long allocatedBytes;
+
+    @Label("Path Cost")
+    int cost;
+
+    @Label("Path Length")
+    int pathLength;
+
+    MazeRunEvent fill(RunMetrics m) {
+        kind = m.kind;
+        algorithm = m.algorithm;
+        heuristic = m.heuristic;
+        cols = m.cols;
+        rows = m.rows;
+        expanded = m.expanded;
+        relaxations = m.relaxations;
+        peakFrontier = m.peakFrontier;
+        allocatedBytes = m.allocatedBytes;
+        cost = m.cost;
+        pathLength = m.pathLength;
+        return this;
+    }
+}
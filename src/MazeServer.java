@@ -0,0 +1,744 @@
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.lang.reflect.Method;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Service HTTP/JSON tanpa Swing di atas MazeEngine, memakai HttpServer bawaan JDK.
+ *
+ *   GET /generate?cols=35&rows=25&seed=42&algorithm=FastPrim
+ *   GET /solve?cols=35&rows=25&seed=42&solver=A*&from=0,0&to=34,24&heuristic=ALT&path=true
+ *   GET /maze?cols=35&rows=25&seed=42          (file dungeon biner, format MazeFile)
+ *   GET /metrics                               (MetricsRegistry + counter server)
+ *   GET /health
+ *
+ * Maze ditentukan sepenuhnya oleh (cols, rows, algorithm, seed, heuristic), jadi
+ * hasil generate disimpan di cache LRU yang dibatasi byte; solve berikutnya pada
+ * maze yang sama hanya membuat engine worker (MazeEngine.forWorker) di atas grid
+ * yang sudah ada. Tanpa from / to, solve memakai start / exit maze.
+ *
+ * Setiap request dilayani satu virtual thread (JDK 21+; di JDK lama jatuh ke pool
+ * thread biasa). Beban dibatasi di tiga tempat, semuanya menolak dengan 503 +
+ * Retry-After daripada mengantre tanpa batas:
+ * - inFlight : jumlah request yang sedang dilayani;
+ * - cpu      : run generate / solve bersamaan, default satu per core, ditunggu
+ *              paling lama queueTimeoutMs;
+ * - memory   : perkiraan workspace (KB) semua run yang sedang berjalan.
+ * Request yang sendirian sudah melebihi maxCells atau budget memori ditolak 413.
+ *
+ * Lock per maze memakai ReentrantLock, bukan synchronized, supaya virtual thread
+ * yang menunggu generate maze yang sama tidak mengunci carrier thread.
+ */
+public class MazeServer implements AutoCloseable {
+    public static final int DEFAULT_PORT = 8080;
+
+    private static final int MAX_SIDE = 65535;
+    private static final int STREAM_PATH_CELLS = 4096; // Jalur lebih panjang di-stream (chunked)
+    private static final long ENTRY_OVERHEAD = 1024; // Objek engine, key, node cache
+
+    /** Batas dan default service; nilai bisa diubah lewat argumen main(). */
+    public static final class Options {
+        public String host = "127.0.0.1";
+        public int port = DEFAULT_PORT;
+        public String heuristic = MazeEngine.DEFAULT_HEURISTIC;
+        public long maxCells = 2048L * 2048;
+        public int maxInFlight = 1024;
+        public int cpuSlots = Runtime.getRuntime().availableProcessors();
+        public long queueTimeoutMs = 2000;
+        public long memoryBytes = Runtime.getRuntime().maxMemory() / 2;
+        public long cacheBytes = Runtime.getRuntime().maxMemory() / 8;
+    }
+
+    private final Options options;
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final Semaphore inFlight;
+    private final Semaphore cpu;
+    private final Semaphore memoryKb;
+    private final MazeCache cache;
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    public MazeServer(Options options) throws IOException {
+        this.options = options;
+        this.inFlight = new Semaphore(options.maxInFlight);
+        this.cpu = new Semaphore(options.cpuSlots, true);
+        this.memoryKb = new Semaphore((int) Math.min(Integer.MAX_VALUE, options.memoryBytes >>> 10), true);
+        this.cache = new MazeCache(options.cacheBytes);
+        this.executor = newRequestExecutor(options.maxInFlight);
+        this.server = HttpServer.create(new InetSocketAddress(options.host, options.port), 0);
+        server.setExecutor(executor);
+        server.createContext("/generate", exchange -> handle(exchange, this::generate));
+        server.createContext("/solve", exchange -> handle(exchange, this::solve));
+        server.createContext("/maze", exchange -> handle(exchange, this::download));
+        server.createContext("/metrics", exchange -> handle(exchange, this::metrics));
+        server.createContext("/health", exchange -> handle(exchange, this::health));
+    }
+
+    /**
+     * Virtual thread per request jika JVM mendukung (JDK 21+). Dipanggil lewat
+     * reflection supaya source tetap bisa dikompilasi dengan release 17.
+     */
+    static ExecutorService newRequestExecutor(int maxThreads) {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            // JDK lama: pool platform thread terbatas; backpressure tetap dari semaphore
+            return Executors.newFixedThreadPool(Math.min(maxThreads, 256), r -> {
+                Thread t = new Thread(r, "maze-http");
+                t.setDaemon(true);
+                return t;
+            });
+        }
+    }
+
+    public void start() {
+        server.start();
+    }
+
+    /** Port yang benar-benar dipakai (berguna jika Options.port = 0). */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    // --- ENDPOINT ---
+
+    private void generate(HttpExchange exchange, Params params) throws IOException {
+        MazeKey key = mazeKey(params);
+        Lease lease = lease(key, null);
+        try (lease) {
+            boolean cached = cache.contains(key);
+            Maze maze = ready(key);
+            MazeEngine engine = maze.engine;
+            StringBuilder json = new StringBuilder(256);
+            json.append('{');
+            appendKey(json, key);
+            json.append(",\"start\":");
+            appendCell(json, engine.getStartCell(), key.cols);
+            json.append(",\"exit\":");
+            appendCell(json, engine.getEndCell(), key.cols);
+            json.append(",\"cached\":").append(cached);
+            json.append(",\"metrics\":");
+            appendMetrics(json, maze.metrics);
+            json.append('}');
+            sendJson(exchange, 200, json);
+        }
+    }
+
+    private void solve(HttpExchange exchange, Params params) throws IOException {
+        MazeKey key = mazeKey(params);
+        String solver = params.choice("solver", "A*", MazeEngine.SOLVERS);
+        boolean withPath = params.bool("path", true);
+        Lease lease = lease(key, solver);
+        try (lease) {
+            Maze maze = ready(key);
+            int from = params.cell("from", key, maze.engine.getStartCell());
+            int to = params.cell("to", key, maze.engine.getEndCell());
+
+            SolveResult result;
+            RunMetrics metrics;
+            acquireCpu();
+            try {
+                MazeEngine worker = maze.worker(key, solver, cache);
+                result = worker.solve(solver, from, to, StepListener.NONE);
+                metrics = worker.getLastMetrics();
+            } finally {
+                cpu.release();
+            }
+
+            StringBuilder json = new StringBuilder(512);
+            json.append('{');
+            appendKey(json, key);
+            json.append(",\"solver\":");
+            Json.appendString(json, solver);
+            json.append(",\"from\":");
+            appendCell(json, from, key.cols);
+            json.append(",\"to\":");
+            appendCell(json, to, key.cols);
+            json.append(",\"found\":").append(result.found());
+            json.append(",\"cost\":").append(result.cost);
+            json.append(",\"length\":").append(result.path.length);
+            json.append(",\"expanded\":").append(result.explored);
+            json.append(",\"metrics\":");
+            appendMetrics(json, metrics);
+            if (!withPath || result.path.length <= STREAM_PATH_CELLS) {
+                if (withPath) {
+                    json.append(",\"path\":[");
+                    for (int i = 0; i < result.path.length; i++) {
+                        if (i > 0) json.append(',');
+                        appendCell(json, result.path[i], key.cols);
+                    }
+                    json.append(']');
+                }
+                json.append('}');
+                sendJson(exchange, 200, json);
+                return;
+            }
+
+            // Jalur bisa jutaan sel: ditulis langsung ke response (chunked) tanpa dirakit di memori
+            exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+            exchange.sendResponseHeaders(200, 0);
+            try (Writer out = new BufferedWriter(new OutputStreamWriter(exchange.getResponseBody(), StandardCharsets.UTF_8), 1 << 14)) {
+                json.append(",\"path\":[");
+                for (int i = 0; i < result.path.length; i++) {
+                    if (i > 0) json.append(',');
+                    appendCell(json, result.path[i], key.cols);
+                    if (json.length() >= 8192) {
+                        out.append(json);
+                        json.setLength(0);
+                    }
+                }
+                json.append("]}\n");
+                out.append(json);
+            }
+        }
+    }
+
+    /** File dungeon biner (MazeFile), di-stream dengan buffer tetap 64 KB. */
+    private void download(HttpExchange exchange, Params params) throws IOException {
+        MazeKey key = mazeKey(params);
+        Lease lease = lease(key, null);
+        try (lease) {
+            Maze maze = ready(key);
+            MazeEngine engine = maze.engine;
+            exchange.getResponseHeaders().set("Content-Type", "application/octet-stream");
+            exchange.getResponseHeaders().set("Content-Disposition",
+                    "attachment; filename=\"maze-" + key.cols + "x" + key.rows + "-" + key.seed + ".dngn\"");
+            exchange.sendResponseHeaders(200, MazeFile.sizeOf(key.cols, key.rows));
+            try (OutputStream body = exchange.getResponseBody()) {
+                MazeFile.write(Channels.newChannel(body), engine.getGrid(), engine.getSeed(), engine.getGenerator(),
+                        engine.getStartCell(), engine.getEndCell());
+            }
+        }
+    }
+
+    private void metrics(HttpExchange exchange, Params params) throws IOException {
+        StringBuilder json = new StringBuilder(1024);
+        json.append("{\"server\":{\"requests\":").append(requests.sum())
+                .append(",\"rejected\":").append(rejected.sum())
+                .append(",\"inFlight\":").append(options.maxInFlight - inFlight.availablePermits())
+                .append(",\"cacheEntries\":").append(cache.size())
+                .append(",\"cacheBytes\":").append(cache.bytes())
+                .append("},\"runs\":{");
+        boolean first = true;
+        for (Map.Entry<String, MetricsRegistry.Summary> e : MetricsRegistry.global().summaries().entrySet()) {
+            MetricsRegistry.Summary s = e.getValue();
+            if (!first) json.append(',');
+            first = false;
+            Json.appendString(json, e.getKey());
+            json.append(":{\"count\":").append(s.count())
+                    .append(",\"meanNanos\":").append((long) s.meanNanos())
+                    .append(",\"minNanos\":").append(s.minNanos())
+                    .append(",\"maxNanos\":").append(s.maxNanos())
+                    .append(",\"meanExpanded\":").append((long) s.meanExpanded())
+                    .append(",\"maxPeakFrontier\":").append(s.maxPeakFrontier())
+                    .append(",\"meanAllocatedBytes\":").append((long) s.meanAllocatedBytes())
+                    .append('}');
+        }
+        json.append("}}");
+        sendJson(exchange, 200, json);
+    }
+
+    private void health(HttpExchange exchange, Params params) throws IOException {
+        sendJson(exchange, 200, new StringBuilder("{\"status\":\"ok\"}"));
+    }
+
+    // --- DISPATCH & ERROR ---
+
+    private interface Endpoint {
+        void serve(HttpExchange exchange, Params params) throws IOException;
+    }
+
+    /** Error yang dikirim ke client sebagai {"error": ...} dengan status tertentu. */
+    private static final class HttpError extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        final int status;
+
+        HttpError(int status, String message) {
+            super(message);
+            this.status = status;
+        }
+    }
+
+    private void handle(HttpExchange exchange, Endpoint endpoint) {
+        requests.increment();
+        try {
+            if (!inFlight.tryAcquire()) {
+                reject(exchange, "Too many requests in flight");
+                return;
+            }
+            try {
+                if (!exchange.getRequestMethod().equals("GET")) {
+                    throw new HttpError(405, "Only GET is supported");
+                }
+                if (!exchange.getHttpContext().getPath().equals(exchange.getRequestURI().getPath())) {
+                    throw new HttpError(404, "Not found: " + exchange.getRequestURI().getPath());
+                }
+                endpoint.serve(exchange, new Params(exchange.getRequestURI().getRawQuery()));
+            } catch (HttpError e) {
+                if (e.status == 503) {
+                    reject(exchange, e.getMessage());
+                } else {
+                    sendError(exchange, e.status, e.getMessage());
+                }
+            } catch (IllegalArgumentException e) {
+                sendError(exchange, 400, e.getMessage());
+            } catch (CancellationException e) {
+                reject(exchange, "Request cancelled");
+            } catch (IOException e) {
+                // Client memutus koneksi di tengah response; tidak ada yang bisa dikirim lagi
+            } catch (RuntimeException e) {
+                System.err.println("MazeServer: " + exchange.getRequestURI() + " failed: " + e);
+                sendError(exchange, 500, "Internal error");
+            } finally {
+                inFlight.release();
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void reject(HttpExchange exchange, String message) {
+        rejected.increment();
+        exchange.getResponseHeaders().set("Retry-After", "1");
+        sendError(exchange, 503, message);
+    }
+
+    private static void sendError(HttpExchange exchange, int status, String message) {
+        if (exchange.getResponseCode() != -1) return; // Header sudah terkirim
+        StringBuilder json = new StringBuilder("{\"error\":");
+        Json.appendString(json, String.valueOf(message));
+        json.append('}');
+        try {
+            sendJson(exchange, status, json);
+        } catch (IOException ignored) {
+            // Client sudah pergi
+        }
+    }
+
+    private static void sendJson(HttpExchange exchange, int status, CharSequence json) throws IOException {
+        byte[] body = (json + "\n").getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    // --- BACKPRESSURE ---
+
+    /** Reservasi memori satu request; dilepas saat request selesai. */
+    private final class Lease implements AutoCloseable {
+        private final int kb;
+
+        Lease(int kb) {
+            this.kb = kb;
+        }
+
+        @Override
+        public void close() {
+            memoryKb.release(kb);
+        }
+    }
+
+    /**
+     * Perkiraan workspace request: grid + generator (jika maze belum di cache),
+     * heuristic ALT (hanya solver A* dan hanya jika belum dibangun untuk maze ini),
+     * dan array solver. Ditolak 413 jika sendirian pun tidak muat.
+     */
+    private Lease lease(MazeKey key, String solver) {
+        long n = key.cells();
+        long bytes = 0;
+        if (!cache.contains(key)) {
+            bytes += PackedGrid.estimateBytes(key.cols, key.rows) + n * generatorBytesPerCell(key.algorithm);
+        }
+        if (solver != null) {
+            bytes += n * solverBytesPerCell(solver);
+            if (MazeEngine.usesHeuristic(solver) && !cache.hasHeuristic(key)) bytes += heuristicBytes(key.heuristic, n);
+        }
+        long kb = (bytes >>> 10) + 1;
+        if (kb > options.memoryBytes >>> 10) {
+            throw new HttpError(413, "Request needs ~" + RunMetrics.formatBytes(bytes) + ", over the memory budget");
+        }
+        try {
+            if (!memoryKb.tryAcquire((int) kb, options.queueTimeoutMs, TimeUnit.MILLISECONDS)) {
+                throw new HttpError(503, "Memory budget exhausted");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Interrupted while waiting for memory");
+        }
+        return new Lease((int) kb);
+    }
+
+    private void acquireCpu() {
+        try {
+            if (!cpu.tryAcquire(options.queueTimeoutMs, TimeUnit.MILLISECONDS)) {
+                throw new HttpError(503, "All workers busy");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Interrupted while waiting for a worker");
+        }
+    }
+
+    private static long generatorBytesPerCell(String algorithm) {
+        switch (algorithm) {
+            case "Prim's": return 40;    // Daftar Wall frontier + visited
+            case "Kruskal's": return 72; // Semua Wall + UnionFind
+            default: return 16;          // Generator berbasis array primitif
+        }
+    }
+
+    private static long heuristicBytes(String heuristic, long cells) {
+        return heuristic.equals("ALT") ? cells * 4L * LandmarkHeuristic.DEFAULT_LANDMARKS : 0;
+    }
+
+    private static long solverBytesPerCell(String solver) {
+        if (solver.equals("Tree")) return 24;          // Index LCA (dibagi) + jalur
+        if (solver.startsWith("Corridor")) return 32;  // Graph koridor + workspace node
+        if (solver.equals("BFS") || solver.equals("DFS")) return 12;
+        return 48; // dist / parent / heap
+    }
+
+    // --- CACHE MAZE ---
+
+    /** Identitas maze: semua yang menentukan hasil generate + heuristic engine-nya. */
+    static final class MazeKey {
+        final int cols, rows;
+        final long seed;
+        final String algorithm, heuristic;
+
+        MazeKey(int cols, int rows, long seed, String algorithm, String heuristic) {
+            this.cols = cols;
+            this.rows = rows;
+            this.seed = seed;
+            this.algorithm = algorithm;
+            this.heuristic = heuristic;
+        }
+
+        long cells() {
+            return (long) cols * rows;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof MazeKey)) return false;
+            MazeKey k = (MazeKey) o;
+            return cols == k.cols && rows == k.rows && seed == k.seed
+                    && algorithm.equals(k.algorithm) && heuristic.equals(k.heuristic);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(cols, rows, seed, algorithm, heuristic);
+        }
+    }
+
+    /**
+     * Satu maze di cache. engine diisi sekali oleh request pertama (di bawah lock);
+     * request lain untuk maze yang sama menunggu lock itu daripada ikut generate.
+     * Setelah itu engine hanya dibaca, kecuali cache solver (prepare) yang juga
+     * dibangun di bawah lock.
+     */
+    static final class Maze {
+        final ReentrantLock lock = new ReentrantLock();
+        volatile MazeEngine engine;
+        RunMetrics metrics; // Metrik generate asli, ikut ditampilkan saat cache hit
+        long bytes;         // Perkiraan memori yang dihitung cache (diubah di bawah lock cache)
+        boolean cached;     // Masih ada di map cache
+        boolean corridor, tree;
+        volatile boolean heuristic; // Dibaca lease() tanpa lock maze
+
+        /**
+         * Engine worker untuk satu solve; cache read-only solver (heuristic hanya untuk
+         * solver A*) dibangun sekali di sini.
+         */
+        MazeEngine worker(MazeKey key, String solver, MazeCache cache) {
+            lock.lock();
+            try {
+                long n = engine.getGrid().size();
+
+                if (solver.startsWith("Corridor") && !corridor) {
+                    corridor = true;
+                    cache.charge(this, n * 20);
+                }
+                if (solver.equals("Tree") && !tree) {
+                    tree = true;
+                    cache.charge(this, n * 16);
+                }
+                engine.prepare(solver);
+                if (MazeEngine.usesHeuristic(solver) && !heuristic) {
+                    heuristic = true; // Baru ditandai setelah benar-benar dibangun
+                    cache.charge(this, heuristicBytes(key.heuristic, n));
+                }
+                return engine.forWorker();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /** Maze dari cache, di-generate dulu jika belum ada. */
+    private Maze ready(MazeKey key) {
+        Maze maze = cache.holder(key);
+        if (maze.engine != null) return maze;
+        maze.lock.lock();
+        try {
+            if (maze.engine == null) {
+                acquireCpu();
+                try {
+                    MazeEngine engine = new MazeEngine(new PackedGrid(key.cols, key.rows));
+                    engine.setHeuristic(key.heuristic);
+                    engine.generate(key.algorithm, key.seed, StepListener.NONE);
+                    maze.metrics = engine.getLastMetrics();
+                    maze.engine = engine; // Heuristic dibangun nanti oleh Maze.worker, hanya untuk solver A*
+                } finally {
+                    cpu.release();
+                }
+                cache.charge(maze, ENTRY_OVERHEAD + PackedGrid.estimateBytes(key.cols, key.rows));
+            }
+        } finally {
+            maze.lock.unlock();
+            cache.discard(key, maze);
+        }
+        return maze;
+    }
+
+    /**
+     * LRU berbasis byte. Entry yang dikeluarkan tetap hidup selama masih dipakai
+     * request yang sedang berjalan; setelah itu dibuang GC.
+     */
+    static final class MazeCache {
+        private final long capacity;
+        private final LinkedHashMap<MazeKey, Maze> entries = new LinkedHashMap<>(64, 0.75f, true);
+        private long bytes;
+
+        MazeCache(long capacity) {
+            this.capacity = capacity;
+        }
+
+        synchronized Maze holder(MazeKey key) {
+            return entries.computeIfAbsent(key, k -> {
+                Maze maze = new Maze();
+                maze.cached = true;
+                return maze;
+            });
+        }
+
+        /** Buang holder yang gagal di-generate (ditolak / dibatalkan) supaya tidak menumpuk. */
+        synchronized void discard(MazeKey key, Maze maze) {
+            if (maze.engine == null && entries.remove(key, maze)) maze.cached = false;
+        }
+
+        synchronized boolean contains(MazeKey key) {
+            Maze maze = entries.get(key);
+            return maze != null && maze.engine != null;
+        }
+
+        /** True jika heuristic maze ini sudah dibangun (dan sudah dihitung ke cache). */
+        synchronized boolean hasHeuristic(MazeKey key) {
+            Maze maze = entries.get(key);
+            return maze != null && maze.heuristic;
+        }
+
+        /** Tambahkan memori entry, lalu keluarkan entry paling lama tidak dipakai sampai muat. */
+        synchronized void charge(Maze maze, long delta) {
+            maze.bytes += delta;
+            if (maze.cached) bytes += delta;
+            Iterator<Maze> it = entries.values().iterator();
+            while (bytes > capacity && it.hasNext()) {
+                Maze eldest = it.next();
+                if (eldest.engine == null) continue; // Masih di-generate request lain
+                it.remove();
+                eldest.cached = false;
+                bytes -= eldest.bytes;
+            }
+        }
+
+        synchronized int size() {
+            return entries.size();
+        }
+
+        synchronized long bytes() {
+            return bytes;
+        }
+    }
+
+    // --- PARAMETER ---
+
+    private MazeKey mazeKey(Params params) {
+        int cols = params.integer("cols", 35, 2, MAX_SIDE);
+        int rows = params.integer("rows", 25, 2, MAX_SIDE);
+        if ((long) cols * rows > options.maxCells) {
+            throw new HttpError(413, "Maze too large: " + cols + "x" + rows + " (max " + options.maxCells + " cells)");
+        }
+        long seed = params.longValue("seed");
+        String algorithm = params.choice("algorithm", "FastPrim", MazeEngine.GENERATORS);
+        String heuristic = params.choice("heuristic", options.heuristic, MazeEngine.HEURISTICS);
+        return new MazeKey(cols, rows, seed, algorithm, heuristic);
+    }
+
+    /** Query string yang sudah di-decode; nilai salah = IllegalArgumentException (400). */
+    static final class Params {
+        private final Map<String, String> values = new HashMap<>();
+
+        Params(String rawQuery) {
+            if (rawQuery == null || rawQuery.isEmpty()) return;
+            for (String pair : rawQuery.split("&")) {
+                if (pair.isEmpty()) continue;
+                int eq = pair.indexOf('=');
+                String name = URLDecoder.decode(eq < 0 ? pair : pair.substring(0, eq), StandardCharsets.UTF_8);
+                String value = eq < 0 ? "" : URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8);
+                values.put(name, value);
+            }
+        }
+
+        int integer(String name, int fallback, int min, int max) {
+            String v = values.get(name);
+            if (v == null) return fallback;
+            int x;
+            try {
+                x = Integer.parseInt(v.trim());
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Parameter " + name + " is not an integer: " + v);
+            }
+            if (x < min || x > max) {
+                throw new IllegalArgumentException("Parameter " + name + " must be in [" + min + ", " + max + "]");
+            }
+            return x;
+        }
+
+        long longValue(String name) {
+            String v = values.get(name);
+            if (v == null) throw new IllegalArgumentException("Missing parameter: " + name);
+            try {
+                return Long.parseLong(v.trim());
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Parameter " + name + " is not an integer: " + v);
+            }
+        }
+
+        String choice(String name, String fallback, Set<String> allowed) {
+            String v = values.getOrDefault(name, fallback);
+            if (!allowed.contains(v)) {
+                throw new IllegalArgumentException("Unknown " + name + ": " + v + " (expected one of " + allowed + ")");
+            }
+            return v;
+        }
+
+        boolean bool(String name, boolean fallback) {
+            String v = values.get(name);
+            if (v == null) return fallback;
+            if (v.equals("true") || v.equals("1") || v.isEmpty()) return true;
+            if (v.equals("false") || v.equals("0")) return false;
+            throw new IllegalArgumentException("Parameter " + name + " is not a boolean: " + v);
+        }
+
+        /** Sel "x,y" di dalam maze, dikembalikan sebagai index y * cols + x. */
+        int cell(String name, MazeKey key, int fallback) {
+            String v = values.get(name);
+            if (v == null) return fallback;
+            int comma = v.indexOf(',');
+            try {
+                if (comma < 0) throw new NumberFormatException();
+                int x = Integer.parseInt(v.substring(0, comma).trim());
+                int y = Integer.parseInt(v.substring(comma + 1).trim());
+                if (x < 0 || x >= key.cols || y < 0 || y >= key.rows) {
+                    throw new IllegalArgumentException("Cell " + name + " outside the maze: " + v);
+                }
+                return y * key.cols + x;
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Parameter " + name + " must be x,y: " + v);
+            }
+        }
+    }
+
+    // --- JSON ---
+
+    private static void appendKey(StringBuilder json, MazeKey key) {
+        json.append("\"cols\":").append(key.cols)
+                .append(",\"rows\":").append(key.rows)
+                .append(",\"seed\":").append(key.seed)
+                .append(",\"algorithm\":");
+        Json.appendString(json, key.algorithm);
+        json.append(",\"heuristic\":");
+        Json.appendString(json, key.heuristic);
+    }
+
+    private static void appendCell(StringBuilder json, int index, int cols) {
+        json.append('[').append(index % cols).append(',').append(index / cols).append(']');
+    }
+
+    private static void appendMetrics(StringBuilder json, RunMetrics m) {
+        json.append("{\"nanos\":").append(m.nanos)
+                .append(",\"expanded\":").append(m.expanded)
+                .append(",\"relaxations\":").append(m.relaxations)
+                .append(",\"peakFrontier\":").append(m.peakFrontier)
+                .append(",\"allocatedBytes\":").append(m.allocatedBytes)
+                .append('}');
+    }
+
+    // --- MAIN ---
+
+    /**
+     * java MazeServer [--host H] [--port P] [--heuristic ALT|Scaled|...] [--max-cells N]
+     *                 [--max-in-flight N] [--cpu N] [--memory-mb N] [--cache-mb N]
+     */
+    public static void main(String[] args) throws IOException {
+        Options options = new Options();
+        for (int i = 0; i < args.length; i++) {
+            String flag = args[i];
+            if (i + 1 >= args.length) throw new IllegalArgumentException("Missing value for " + flag);
+            String value = args[++i];
+            switch (flag) {
+                case "--host": options.host = value; break;
+                case "--port": options.port = Integer.parseInt(value); break;
+                case "--heuristic":
+                    if (!MazeEngine.HEURISTICS.contains(value)) throw new IllegalArgumentException("Unknown heuristic: " + value);
+                    options.heuristic = value;
+                    break;
+                case "--max-cells": options.maxCells = Long.parseLong(value); break;
+                case "--max-in-flight": options.maxInFlight = Integer.parseInt(value); break;
+                case "--cpu": options.cpuSlots = Integer.parseInt(value); break;
+                case "--memory-mb": options.memoryBytes = Long.parseLong(value) << 20; break;
+                case "--cache-mb": options.cacheBytes = Long.parseLong(value) << 20; break;
+                default: throw new IllegalArgumentException("Unknown option: " + flag);
+            }
+        }
+        MazeServer server = new MazeServer(options);
+        Runtime.getRuntime().addShutdownHook(new Thread(server::close, "maze-server-shutdown"));
+        server.start();
+        System.out.println("MazeServer listening on http://" + options.host + ":" + server.getPort() + "/");
+    }
+}
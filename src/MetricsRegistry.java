@@ -0,0 +1,113 @@
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Registry metrik run generator / solver untuk diakses dari kode (UI, batch,
+ * benchmark, service). Setiap RunMetrics dijumlahkan ke Summary per
+ * "kind algoritma (heuristic)", misal "solve A* (ALT)".
+ *
+ * Aman dipakai banyak thread sekaligus (BatchSolver, SolverRace): penjumlahan
+ * memakai LongAdder / LongAccumulator tanpa lock, dan listener disimpan dalam
+ * CopyOnWriteArrayList. Listener dipanggil di thread yang menjalankan run.
+ */
+public class MetricsRegistry {
+    private static final MetricsRegistry GLOBAL = new MetricsRegistry();
+
+    private final ConcurrentHashMap<String, Summary> summaries = new ConcurrentHashMap<>();
+    private final CopyOnWriteArrayList<Consumer<RunMetrics>> listeners = new CopyOnWriteArrayList<>();
+
+    /** Registry yang diisi MazeEngine. */
+    public static MetricsRegistry global() {
+        return GLOBAL;
+    }
+
+    /** Agregat semua run dengan key yang sama. */
+    public static final class Summary {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator minNanos = new LongAccumulator(Math::min, Long.MAX_VALUE);
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+        private final LongAdder totalExpanded = new LongAdder();
+        private final LongAdder totalRelaxations = new LongAdder();
+        private final LongAccumulator maxPeakFrontier = new LongAccumulator(Math::max, -1);
+        private final LongAdder totalAllocatedBytes = new LongAdder();
+
+        void add(RunMetrics m) {
+            count.increment();
+            totalNanos.add(m.nanos);
+            minNanos.accumulate(m.nanos);
+            maxNanos.accumulate(m.nanos);
+            totalExpanded.add(m.expanded);
+            if (m.relaxations > 0) totalRelaxations.add(m.relaxations);
+            maxPeakFrontier.accumulate(m.peakFrontier);
+            if (m.allocatedBytes > 0) totalAllocatedBytes.add(m.allocatedBytes);
+        }
+
+        public long count() { return count.sum(); }
+        public long totalNanos() { return totalNanos.sum(); }
+        public long minNanos() { return count() == 0 ? 0 : minNanos.get(); }
+        public long maxNanos() { return maxNanos.get(); }
+        public long totalExpanded() { return totalExpanded.sum(); }
+        public long totalRelaxations() { return totalRelaxations.sum(); }
+        public long maxPeakFrontier() { return maxPeakFrontier.get(); }
+        public long totalAllocatedBytes() { return totalAllocatedBytes.sum(); }
+
+        public double meanNanos() {
+            long n = count();
+            return n == 0 ? 0 : (double) totalNanos() / n;
+        }
+
+        public double meanExpanded() {
+            long n = count();
+            return n == 0 ? 0 : (double) totalExpanded() / n;
+        }
+
+        public double meanAllocatedBytes() {
+            long n = count();
+            return n == 0 ? 0 : (double) totalAllocatedBytes() / n;
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder(String.format(Locale.ROOT, "%d runs, mean %.3f ms (min %.3f, max %.3f), mean %.0f expanded",
+                    count(), meanNanos() / 1e6, minNanos() / 1e6, maxNanos() / 1e6, meanExpanded()));
+            if (totalRelaxations() > 0) sb.append(String.format(Locale.ROOT, ", mean %.0f relaxed", (double) totalRelaxations() / count()));
+            if (maxPeakFrontier() >= 0) sb.append(", peak frontier ").append(maxPeakFrontier());
+            sb.append(", mean ").append(RunMetrics.formatBytes((long) meanAllocatedBytes())).append(" allocated");
+            return sb.toString();
+        }
+    }
+
+    public void record(RunMetrics m) {
+        summaries.computeIfAbsent(m.kind + " " + m.label(), k -> new Summary()).add(m);
+        for (Consumer<RunMetrics> listener : listeners) listener.accept(m);
+    }
+
+    /** Summary untuk key "kind label", misal "solve Dijkstra", atau null. */
+    public Summary get(String key) {
+        return summaries.get(key);
+    }
+
+    /** Semua summary, terurut berdasarkan key. Summary tetap live (bukan salinan). */
+    public Map<String, Summary> summaries() {
+        return new TreeMap<>(summaries);
+    }
+
+    public void addListener(Consumer<RunMetrics> listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(Consumer<RunMetrics> listener) {
+        listeners.remove(listener);
+    }
+
+    public void reset() {
+        summaries.clear();
+    }
+}
@@ -1,14 +1,12 @@
-import java.awt.*;
-
 public class Node implements Comparable<Node> {
-    public Cell cell;
+    public int cell;  // Index sel (y * cols + x)
     public int gCost; // Jarak dari start
     public int hCost; // Jarak estimasi ke end
     public int fCost; // gCost + hCost
     public Node parent; // Untuk melacak jalur balik (opsional, tapi berguna)
 
     // Constructor 4 Argumen
-    public Node(Cell cell, int gCost, int hCost, Node parent) {
+    public Node(int cell, int gCost, int hCost, Node parent) {
         this.cell = cell;
         this.gCost = gCost;
         this.hCost = hCost;
@@ -20,4 +18,4 @@ public class Node implements Comparable<Node> {
     public int compareTo(Node other) {
         return Integer.compare(this.fCost, other.fCost);
     }
-}
\ No newline at end of file
+}
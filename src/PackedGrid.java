@@ -0,0 +1,108 @@
+import java.util.Arrays;
+
+/**
+ * Grid maze versi primitive untuk dungeon raksasa (misal 10k x 10k).
+ *
+ * Dinding antar tetangga selalu simetris (lihat removeWall lama), jadi cukup
+ * disimpan dua bit per sel: "terbuka ke kanan" dan "terbuka ke bawah".
+ * Dinding atas/kiri dibaca dari bit milik sel tetangga. Terrain disimpan
+ * sebagai ordinal dalam byte[]. Total ~1.25 byte per sel.
+ */
+public class PackedGrid implements MazeGrid {
+    private static final Terrain[] TERRAINS = Terrain.values();
+
+    private final int cols, rows;
+    final long[] eastOpen;  // bit i = dinding kanan sel i sudah dihancurkan
+    final long[] southOpen; // bit i = dinding bawah sel i sudah dihancurkan
+    final byte[] terrain;   // Terrain.ordinal() per sel
+
+    public PackedGrid(int cols, int rows) {
+        if (cols <= 0 || rows <= 0 || (long) cols * rows > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Invalid grid size: " + cols + "x" + rows);
+        }
+        this.cols = cols;
+        this.rows = rows;
+        int n = cols * rows;
+        this.eastOpen = new long[(n + 63) >>> 6];
+        this.southOpen = new long[(n + 63) >>> 6];
+        this.terrain = new byte[n];
+    }
+
+    /** Salin struktur dan terrain dari grid lain (misal CellGrid milik UI). */
+    public static PackedGrid copyOf(MazeGrid src) {
+        PackedGrid g = new PackedGrid(src.cols(), src.rows());
+        int n = g.size();
+        for (int i = 0; i < n; i++) {
+            if (src.isOpen(i, RIGHT)) g.eastOpen[i >>> 6] |= 1L << i;
+            if (src.isOpen(i, BOTTOM)) g.southOpen[i >>> 6] |= 1L << i;
+            g.terrain[i] = (byte) src.getTerrain(i).ordinal();
+        }
+        return g;
+    }
+
+    /** Perkiraan memori yang dipakai (byte) untuk ukuran grid tertentu. */
+    public static long estimateBytes(int cols, int rows) {
+        long n = (long) cols * rows;
+        return 2 * ((n + 63) >>> 6) * 8 + n;
+    }
+
+    @Override
+    public int cols() { return cols; }
+
+    @Override
+    public int rows() { return rows; }
+
+    @Override
+    public boolean isOpen(int index, int dir) {
+        switch (dir) {
+            case TOP: return index >= cols && bit(southOpen, index - cols);
+            case RIGHT: return bit(eastOpen, index);
+            case BOTTOM: return bit(southOpen, index);
+            case LEFT: return index % cols != 0 && bit(eastOpen, index - 1);
+            default: return false;
+        }
+    }
+
+    @Override
+    public void openWall(int index, int dir) {
+        if (neighbor(index, dir) < 0) {
+            throw new IllegalArgumentException("No neighbour for cell " + index + " in direction " + dir);
+        }
+        switch (dir) {
+            case TOP: set(southOpen, index - cols); break;
+            case RIGHT: set(eastOpen, index); break;
+            case BOTTOM: set(southOpen, index); break;
+            case LEFT: set(eastOpen, index - 1); break;
+        }
+    }
+
+    @Override
+    public Terrain getTerrain(int index) {
+        return TERRAINS[terrain[index]];
+    }
+
+    @Override
+    public void setTerrain(int index, Terrain t) {
+        terrain[index] = (byte) t.ordinal();
+    }
+
+    @Override
+    public int cost(int index) {
+        return TERRAINS[terrain[index]].cost;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(eastOpen, 0L);
+        Arrays.fill(southOpen, 0L);
+        Arrays.fill(terrain, (byte) Terrain.DIRT.ordinal());
+    }
+
+    private static boolean bit(long[] bits, int i) {
+        return (bits[i >>> 6] & (1L << i)) != 0;
+    }
+
+    private static void set(long[] bits, int i) {
+        bits[i >>> 6] |= 1L << i;
+    }
+}
@@ -0,0 +1,132 @@
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.util.Arrays;
+
+/**
+ * Lapisan tampilan race mode: jejak semua peserta SolverRace ditumpuk di atas maze.
+ *
+ * Setiap sel menyimpan bitmask peserta yang sudah meng-expand-nya; warna sel
+ * diambil dari palet campuran warna peserta (bitmask -> ARGB), jadi daerah yang
+ * dijelajahi beberapa solver sekaligus terlihat sebagai warna gabungan. Seperti
+ * jejak visited di MazeRenderer, semuanya satu image 1 px per sel yang
+ * diskalakan nearest-neighbour hanya untuk area clip, di bawah dinding.
+ *
+ * Sel yang terakhir di-expand tiap peserta (ujung frontier-nya) diberi cincin
+ * berwarna, dan jalur akhir digambar sejajar dengan sedikit offset per peserta.
+ * Hanya dipakai di EDT.
+ */
+public class RaceOverlay {
+    public static final Color[] LANE_COLORS = {
+            new Color(0, 200, 255),   // Cyan
+            new Color(255, 60, 200),  // Magenta
+            new Color(120, 255, 60),  // Hijau muda
+            new Color(255, 150, 0),   // Oranye
+    };
+    public static final String[] LANE_COLOR_NAMES = {"cyan", "magenta", "green", "orange"};
+    private static final int TRAIL_ALPHA = 170;
+
+    private final int cols, rows, lanes;
+    private final byte[] mask;       // Bit lane = sel sudah di-expand peserta itu
+    private final int[] palette;     // bitmask -> ARGB campuran
+    private final BufferedImage layer;
+    private final int[] pixels;
+    private final int[] heads;       // Sel terakhir yang di-expand per peserta, -1 = belum ada
+    private final int[][] paths;
+    private BasicStroke stroke; // Dibuat ulang hanya saat zoom berubah
+    private int strokeCellSize;
+
+    public RaceOverlay(int cols, int rows, int lanes) {
+        if (lanes < 1 || lanes > LANE_COLORS.length) throw new IllegalArgumentException("Unsupported lane count: " + lanes);
+        this.cols = cols;
+        this.rows = rows;
+        this.lanes = lanes;
+        this.mask = new byte[cols * rows];
+        this.palette = buildPalette(lanes);
+        this.layer = new BufferedImage(cols, rows, BufferedImage.TYPE_INT_ARGB);
+        this.pixels = ((DataBufferInt) layer.getRaster().getDataBuffer()).getData();
+        this.heads = new int[lanes];
+        this.paths = new int[lanes][];
+        Arrays.fill(heads, -1);
+    }
+
+    /** Rata-rata RGB warna peserta yang bit-nya menyala. */
+    private static int[] buildPalette(int lanes) {
+        int[] palette = new int[1 << lanes];
+        for (int m = 1; m < palette.length; m++) {
+            int r = 0, g = 0, b = 0, n = Integer.bitCount(m);
+            for (int lane = 0; lane < lanes; lane++) {
+                if ((m & (1 << lane)) == 0) continue;
+                r += LANE_COLORS[lane].getRed();
+                g += LANE_COLORS[lane].getGreen();
+                b += LANE_COLORS[lane].getBlue();
+            }
+            palette[m] = TRAIL_ALPHA << 24 | (r / n) << 16 | (g / n) << 8 | (b / n);
+        }
+        return palette;
+    }
+
+    public int lanes() {
+        return lanes;
+    }
+
+    /** Peserta lane meng-expand sel index; kembalikan ujung frontier sebelumnya (-1 jika belum ada). */
+    public int visit(int lane, int index) {
+        int m = mask[index] | (1 << lane);
+        mask[index] = (byte) m;
+        pixels[index] = palette[m];
+        int previous = heads[lane];
+        heads[lane] = index;
+        return previous;
+    }
+
+    /** Peserta selesai: jalur (boleh kosong) digambar dan cincin frontier dihapus. */
+    public void finish(int lane, int[] path) {
+        paths[lane] = path;
+        heads[lane] = -1;
+    }
+
+    /** Jejak ekspansi semua peserta; digambar MazeRenderer di antara lantai dan dinding. */
+    public void paintTrails(Graphics2D g, Rectangle clip, int cellSize) {
+        int cx0 = Math.max(0, clip.x / cellSize), cy0 = Math.max(0, clip.y / cellSize);
+        int cx1 = Math.min(cols - 1, (clip.x + clip.width) / cellSize);
+        int cy1 = Math.min(rows - 1, (clip.y + clip.height) / cellSize);
+        if (cx0 > cx1 || cy0 > cy1) return;
+        g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
+        g.drawImage(layer, cx0 * cellSize, cy0 * cellSize, (cx1 + 1) * cellSize, (cy1 + 1) * cellSize,
+                cx0, cy0, cx1 + 1, cy1 + 1, null);
+    }
+
+    /** Jalur akhir dan ujung frontier tiap peserta, di atas dinding. */
+    public void paintMarkers(Graphics2D g, Rectangle clip, int cellSize) {
+        int half = cellSize / 2;
+        int width = Math.max(1, cellSize / 8);
+        if (stroke == null || strokeCellSize != cellSize) {
+            stroke = new BasicStroke(width, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND);
+            strokeCellSize = cellSize;
+        }
+        Rectangle area = new Rectangle(clip.x - cellSize, clip.y - cellSize, clip.width + 2 * cellSize, clip.height + 2 * cellSize);
+        g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g.setStroke(stroke);
+        for (int lane = 0; lane < lanes; lane++) {
+            g.setColor(LANE_COLORS[lane]);
+            int[] path = paths[lane];
+            if (path != null) {
+                // Jalur sejajar: geser tiap peserta agar jalur yang sama tidak saling menutupi
+                int offset = (2 * lane - (lanes - 1)) * width / 2;
+                for (int i = 0; i + 1 < path.length; i++) {
+                    int a = path[i], b = path[i + 1];
+                    int x1 = a % cols * cellSize + half, y1 = a / cols * cellSize + half;
+                    if (!area.contains(x1, y1)) continue; // Segmen yang menyentuh clip saja
+                    g.drawLine(x1 + offset, y1 + offset, b % cols * cellSize + half + offset, b / cols * cellSize + half + offset);
+                }
+            }
+            int head = heads[lane];
+            if (head >= 0) {
+                int inset = cellSize / 6;
+                g.drawOval(head % cols * cellSize + inset, head / cols * cellSize + inset,
+                        cellSize - 2 * inset, cellSize - 2 * inset);
+            }
+        }
+    }
+}
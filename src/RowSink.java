@@ -0,0 +1,25 @@
+/**
+ * Penerima baris maze yang sudah selesai dari generator streaming (EllerGenerator).
+ *
+ * Bit x pada eastOpen / southOpen = dinding kanan / bawah sel (x, y) sudah dihancurkan;
+ * terrain[x] = Terrain.ordinal(). Array dipakai ulang oleh generator untuk baris
+ * berikutnya, jadi sink harus menyalin isinya jika ingin menyimpannya.
+ */
+public interface RowSink {
+    void acceptRow(int y, long[] eastOpen, long[] southOpen, byte[] terrain);
+
+    /** Sink yang menulis baris ke grid di memori (misal PackedGrid) agar bisa dipakai solver. */
+    static RowSink into(MazeGrid grid, StepListener listener) {
+        return (y, eastOpen, southOpen, terrain) -> {
+            int cols = grid.cols();
+            Terrain[] terrains = Terrain.values();
+            for (int x = 0; x < cols; x++) {
+                int index = y * cols + x;
+                if ((eastOpen[x >>> 6] & (1L << x)) != 0) grid.openWall(index, MazeGrid.RIGHT);
+                if ((southOpen[x >>> 6] & (1L << x)) != 0 && y < grid.rows() - 1) grid.openWall(index, MazeGrid.BOTTOM);
+                grid.setTerrain(index, terrains[terrain[x]]);
+                listener.onStep(StepListener.CARVE, index);
+            }
+        };
+    }
+}
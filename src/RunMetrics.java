@@ -0,0 +1,131 @@
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Locale;
+
+/**
+ * Ukuran satu run generator atau solver, dicatat oleh MazeEngine di setiap
+ * generate() dan solve().
+ *
+ * - nanos          : wall-clock System.nanoTime() dari awal sampai akhir run.
+ * - expanded       : sel yang di-expand solver (SolveResult.explored); untuk generator
+ *                    jumlah sel maze.
+ * - relaxations    : solver: tetangga yang dimasukkan / diperbaiki di frontier (Tree = 0,
+ *                    tanpa frontier). Generator: dinding / edge kandidat yang diperiksa.
+ * - peakFrontier   : solver: ukuran maksimum queue / stack / priority queue (Bi* = kedua
+ *                    sisi sekaligus, Corridor* = dalam node junction). Generator: frontier
+ *                    dinding terbesar (Prim), panjang daftar edge (Kruskal), jumlah set
+ *                    terbanyak per baris (Eller), frontier terbesar satu tile (Tiled).
+ *                    -1 = tidak dihitung.
+ * - allocatedBytes : byte yang dialokasikan thread pemanggil selama run (-1 jika JVM
+ *                    tidak mendukung, termasuk virtual thread di JDK 21). Alokasi thread
+ *                    lain (Tiled, ForkJoin) tidak ikut.
+ *
+ * Satu run juga di-commit sebagai event JFR (MazeRunEvent) dan dikirim ke
+ * MetricsRegistry.global().
+ */
+public class RunMetrics {
+    public static final String GENERATE = "generate";
+    public static final String SOLVE = "solve";
+
+    public final String kind;
+    public final String algorithm;
+    public final String heuristic; // Kosong untuk generator dan solver tanpa heuristic
+    public final int cols, rows;
+    public final long nanos;
+    public final long expanded;
+    public final long relaxations;
+    public final long peakFrontier;
+    public final long allocatedBytes;
+    public final int cost;       // -1 untuk generator atau jika jalur tidak ditemukan
+    public final int pathLength; // Jumlah sel jalur, 0 untuk generator
+
+    public RunMetrics(String kind, String algorithm, String heuristic, int cols, int rows, long nanos,
+                      long expanded, long relaxations, long peakFrontier, long allocatedBytes, int cost, int pathLength) {
+        this.kind = kind;
+        this.algorithm = algorithm;
+        this.heuristic = heuristic;
+        this.cols = cols;
+        this.rows = rows;
+        this.nanos = nanos;
+        this.expanded = expanded;
+        this.relaxations = relaxations;
+        this.peakFrontier = peakFrontier;
+        this.allocatedBytes = allocatedBytes;
+        this.cost = cost;
+        this.pathLength = pathLength;
+    }
+
+    /** Nama untuk laporan dan key registry, misal "A* (ALT)". */
+    public String label() {
+        return heuristic.isEmpty() ? algorithm : algorithm + " (" + heuristic + ")";
+    }
+
+    /** Ringkasan satu baris untuk Adventure Log. */
+    public String summary() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format(Locale.ROOT, "%.3f ms, %d expanded", nanos / 1e6, expanded));
+        if (relaxations >= 0) sb.append(", ").append(relaxations).append(" relaxed");
+        if (peakFrontier >= 0) sb.append(", peak frontier ").append(peakFrontier);
+        if (allocatedBytes >= 0) sb.append(", ").append(formatBytes(allocatedBytes)).append(" allocated");
+        return sb.toString();
+    }
+
+    @Override
+    public String toString() {
+        return kind + " " + label() + " " + cols + "x" + rows + ": " + summary();
+    }
+
+    static String formatBytes(long bytes) {
+        if (bytes < 1024) return bytes + " B";
+        if (bytes < 1024 * 1024) return String.format(Locale.ROOT, "%.1f KB", bytes / 1024.0);
+        return String.format(Locale.ROOT, "%.1f MB", bytes / (1024.0 * 1024.0));
+    }
+
+    // --- PENGUKURAN ---
+
+    private static final com.sun.management.ThreadMXBean THREADS = allocationBean();
+
+    private static com.sun.management.ThreadMXBean allocationBean() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (!(bean instanceof com.sun.management.ThreadMXBean)) return null;
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) bean;
+        if (!threads.isThreadAllocatedMemorySupported()) return null;
+        if (!threads.isThreadAllocatedMemoryEnabled()) threads.setThreadAllocatedMemoryEnabled(true);
+        return threads;
+    }
+
+    /** Byte yang sudah dialokasikan thread ini sejak dibuat, atau -1. */
+    static long currentThreadAllocatedBytes() {
+        return THREADS == null ? -1 : THREADS.getCurrentThreadAllocatedBytes();
+    }
+
+    /** Mulai mengukur run di thread ini; panggil finish() di thread yang sama. */
+    static Probe start() {
+        return new Probe();
+    }
+
+    /** Titik awal satu run: waktu, counter alokasi thread, dan event JFR. */
+    static final class Probe {
+        private final long startNanos;
+        private final long startAllocated;
+        private final MazeRunEvent event = new MazeRunEvent();
+
+        private Probe() {
+            event.begin();
+            startAllocated = currentThreadAllocatedBytes();
+            startNanos = System.nanoTime();
+        }
+
+        RunMetrics finish(String kind, String algorithm, String heuristic, MazeGrid grid,
+                          long expanded, long relaxations, long peakFrontier, int cost, int pathLength) {
+            long nanos = System.nanoTime() - startNanos;
+            long allocated = startAllocated < 0 ? -1 : currentThreadAllocatedBytes() - startAllocated;
+            RunMetrics m = new RunMetrics(kind, algorithm, heuristic, grid.cols(), grid.rows(), nanos,
+                    expanded, relaxations, peakFrontier, allocated, cost, pathLength);
+            event.end();
+            if (event.shouldCommit()) event.fill(m).commit();
+            MetricsRegistry.global().record(m);
+            return m;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+/**
+ * Helper bersama untuk solver berbasis index: rekonstruksi jalur dari array parent.
+ */
+public final class SearchPaths {
+    private SearchPaths() {}
+
+    /** Rekonstruksi jalur dari array parent (parent start = -1). */
+    public static SolveResult build(String solver, MazeGrid grid, int[] parent, int current, int explored) {
+        int length = 0;
+        for (int c = current; c != -1; c = parent[c]) length++;
+
+        int[] path = new int[length];
+        for (int i = length - 1, c = current; i >= 0; i--, c = parent[c]) {
+            path[i] = c;
+        }
+        return new SolveResult(solver, path, pathCost(grid, path), explored);
+    }
+
+    /** Total cost terrain sebuah jalur (cost dihitung saat memasuki sel, start tidak dihitung). */
+    public static int pathCost(MazeGrid grid, int[] path) {
+        int cost = 0;
+        for (int i = 1; i < path.length; i++) cost += grid.cost(path[i]);
+        return cost;
+    }
+}
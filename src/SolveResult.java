@@ -0,0 +1,27 @@
+/**
+ * Hasil satu kali solve: jalur dari start ke exit (index sel), total cost
+ * terrain, dan jumlah sel yang di-expand oleh solver.
+ */
+public class SolveResult {
+    private static final int[] NO_PATH = new int[0];
+
+    public final String solver;
+    public final int[] path; // Kosong jika tidak ada jalur
+    public final int cost;
+    public final int explored;
+
+    public SolveResult(String solver, int[] path, int cost, int explored) {
+        this.solver = solver;
+        this.path = path;
+        this.cost = cost;
+        this.explored = explored;
+    }
+
+    public static SolveResult notFound(String solver, int explored) {
+        return new SolveResult(solver, NO_PATH, -1, explored);
+    }
+
+    public boolean found() {
+        return path.length > 0;
+    }
+}
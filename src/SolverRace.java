@@ -0,0 +1,90 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Balapan beberapa solver pada maze yang sama, bersamaan (satu thread per peserta).
+ *
+ * Semua peserta membaca snapshot beku (MazeEngine.snapshot()), jadi grid UI boleh
+ * berubah selama balapan. Setiap peserta memakai engine worker sendiri, sehingga
+ * visited bitset / dist / parent tidak pernah dibagi; hanya cache read-only
+ * (heuristic) yang dibangun sekali sebelum start dan dipakai bersama.
+ *
+ * Peserta dilepas serentak lewat latch. Waktu yang dilaporkan (RunMetrics dari
+ * engine worker) adalah wall-clock per peserta sampai solver selesai, termasuk
+ * merekam urutan ekspansi ke Trace (biaya yang sama untuk semua peserta) untuk
+ * replay di UI. Di mesin dengan core lebih sedikit dari jumlah peserta, thread
+ * saling berbagi CPU.
+ */
+public class SolverRace {
+    public static final String[] DEFAULT_SOLVERS = {"BFS", "DFS", "Dijkstra", "A*"};
+
+    /** Hasil satu peserta. */
+    public static final class Entry {
+        public final String solver;
+        public final SolveResult result;
+        public final RunMetrics metrics; // Wall-clock, relaxation, peak frontier, alokasi
+        public final Trace trace; // Urutan ekspansi, untuk replay animasi
+
+        Entry(String solver, SolveResult result, RunMetrics metrics, Trace trace) {
+            this.solver = solver;
+            this.result = result;
+            this.metrics = metrics;
+            this.trace = trace;
+        }
+    }
+
+    private SolverRace() {}
+
+    /**
+     * Jalankan semua solver dari start ke exit snapshot. Hasil berurutan sama
+     * dengan solvers. Jika thread pemanggil di-interrupt, semua peserta dibatalkan
+     * dan CancellationException dilempar.
+     */
+    public static List<Entry> run(MazeEngine snapshot, String... solvers) {
+        for (String solver : solvers) snapshot.prepare(solver); // Cache dibangun di luar waktu balapan
+        MazeGrid grid = snapshot.getGrid();
+        CountDownLatch gate = new CountDownLatch(1);
+
+        List<Callable<Entry>> racers = new ArrayList<>(solvers.length);
+        for (String solver : solvers) {
+            MazeEngine worker = snapshot.forWorker();
+            racers.add(() -> {
+                Trace.Recorder recorder = new Trace.Recorder(Trace.SOLVE, solver, grid.cols(), grid.rows(),
+                        snapshot.getGenerator(), snapshot.getSeed());
+                gate.await();
+                SolveResult result = worker.solve(solver, recorder);
+                return new Entry(solver, result, worker.getLastMetrics(), recorder.finish(result.path));
+            });
+        }
+
+        ExecutorService pool = Executors.newFixedThreadPool(solvers.length, r -> {
+            Thread t = new Thread(r, "race-worker");
+            t.setDaemon(true);
+            return t;
+        });
+        try {
+            List<Future<Entry>> futures = new ArrayList<>(racers.size());
+            for (Callable<Entry> racer : racers) futures.add(pool.submit(racer));
+            gate.countDown();
+            List<Entry> entries = new ArrayList<>(futures.size());
+            for (Future<Entry> f : futures) entries.add(f.get());
+            return entries;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            CancellationException cancelled = new CancellationException("Race cancelled");
+            cancelled.initCause(e);
+            throw cancelled;
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Race solver failed", e.getCause());
+        } finally {
+            pool.shutdownNow(); // Interrupt peserta yang masih berjalan (Cancellation.check)
+        }
+    }
+}
@@ -0,0 +1,24 @@
+/**
+ * Callback untuk setiap langkah generator / solver di MazeEngine.
+ * Engine tidak tahu apa-apa soal Swing; UI cukup memasang listener
+ * yang meneruskan event ke animasi (StepRing) atau rekaman (Trace).
+ */
+public interface StepListener {
+    int CARVE = 0; // Generator membuka dinding menuju sel ini
+    int VISIT = 1; // Solver sedang memproses (expand) sel ini
+    int VISIT_BACKWARD = 2; // Solver dua arah: expand dari sisi exit
+
+    // Listener kosong untuk mode headless (tanpa animasi)
+    StepListener NONE = (type, index) -> {};
+
+    /** @param index index sel, {@code y * cols + x} */
+    void onStep(int type, int index);
+
+    /** Teruskan setiap event ke dua listener (misal rekaman Trace + animasi). */
+    static StepListener both(StepListener first, StepListener second) {
+        return (type, index) -> {
+            first.onStep(type, index);
+            second.onStep(type, index);
+        };
+    }
+}
@@ -0,0 +1,86 @@
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Ring buffer lock-free satu produsen / satu konsumen untuk event StepListener.
+ *
+ * Solver (produsen) mem-publish event secepat CPU tanpa sleep; Swing Timer
+ * (konsumen) menguras sejumlah event per frame. Event dikemas dalam satu long
+ * (type di 32 bit atas, index sel di 32 bit bawah). Jika ring penuh, produsen
+ * menunggu sebentar (park) sampai konsumen mengosongkan slot, jadi memori tetap
+ * tetap dan solver tidak pernah jauh mendahului animasi lebih dari kapasitas ring.
+ *
+ * head dan tail hanya ditulis oleh satu thread masing-masing; publikasi memakai
+ * lazySet (release) sehingga tidak ada lock maupun CAS di jalur panas.
+ * Produsen yang sedang menunggu slot berhenti dengan CancellationException jika
+ * thread-nya di-interrupt (job dibatalkan oleh JobScheduler).
+ */
+public class StepRing implements StepListener {
+    private final long[] events;
+    private final int mask;
+    private final AtomicLong head = new AtomicLong(); // Slot berikutnya yang dibaca konsumen
+    private final AtomicLong tail = new AtomicLong(); // Slot berikutnya yang ditulis produsen
+    private volatile boolean finished;
+    private volatile boolean abandoned;
+
+    public StepRing(int capacity) {
+        if (Integer.bitCount(capacity) != 1) throw new IllegalArgumentException("Capacity must be a power of two: " + capacity);
+        this.events = new long[capacity];
+        this.mask = capacity - 1;
+    }
+
+    /** Siapkan ring untuk job baru. Hanya boleh dipanggil saat tidak ada produsen aktif. */
+    public void reset() {
+        head.set(0);
+        tail.set(0);
+        finished = false;
+        abandoned = false;
+    }
+
+    // --- PRODUSEN ---
+
+    @Override
+    public void onStep(int type, int index) {
+        long t = tail.get();
+        while (t - head.get() == events.length) {
+            if (abandoned) return; // Konsumen berhenti membaca: buang event
+            Cancellation.check(); // Job digantikan saat menunggu animasi (mis. sedang di-pause)
+            LockSupport.parkNanos(100_000);
+        }
+        events[(int) t & mask] = (long) type << 32 | (index & 0xFFFFFFFFL);
+        tail.lazySet(t + 1);
+    }
+
+    /** Produsen selesai; tidak ada event baru setelah ini. */
+    public void finish() {
+        finished = true;
+    }
+
+    // --- KONSUMEN ---
+
+    /** Kirim maksimal max event ke listener, kembalikan jumlah yang dikirim. */
+    public int drain(int max, StepListener listener) {
+        long h = head.get();
+        long available = Math.min(max, tail.get() - h);
+        for (long i = 0; i < available; i++) {
+            long e = events[(int) (h + i) & mask];
+            listener.onStep((int) (e >>> 32), (int) e);
+        }
+        head.lazySet(h + available);
+        return (int) available;
+    }
+
+    /** True jika produsen sudah selesai dan semua event sudah dikuras. */
+    public boolean isDone() {
+        return finished && head.get() == tail.get();
+    }
+
+    /** Konsumen tidak akan membaca lagi; produsen yang sedang menunggu dilepas. */
+    public void abandon() {
+        abandoned = true;
+    }
+
+    public int size() {
+        return (int) (tail.get() - head.get());
+    }
+}
@@ -0,0 +1,163 @@
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+/**
+ * Generator maze paralel berbasis tile untuk dungeon raksasa.
+ *
+ * 1. Grid dibagi menjadi tile tileSize x tileSize; setiap tile di-generate
+ *    sendiri-sendiri secara paralel (FastPrim / FastKruskal) ke PackedGrid lokal.
+ * 2. Tile langsung disalin ke grid tujuan begitu selesai, jadi paling banyak satu
+ *    tile per thread yang hidup sekaligus. PackedGrid menyimpan bit dinding dalam
+ *    long[], jadi tile yang bersebelahan bisa berbagi satu word: tile dalam satu
+ *    baris tile disalin bergantian (lock per baris), dan baris tile genap
+ *    dikerjakan dulu, baru baris tile ganjil.
+ * 3. Kruskal pada graph tile (node = tile, edge = batas antar tile) memilih
+ *    spanning tree tile; untuk setiap batas terpilih dibuka tepat satu lorong.
+ * Setiap tile adalah spanning tree dan tile-tile terhubung lewat spanning tree,
+ * jadi hasilnya tetap maze sempurna.
+ *
+ * Seed setiap tile diturunkan dari (seed, index tile), sehingga hasil identik
+ * untuk seed yang sama berapa pun jumlah thread-nya. Grid tujuan harus masih
+ * dalam kondisi awal (semua dinding tertutup, lihat MazeGrid.clear()).
+ */
+public final class TiledMazeGenerator {
+    public static final int DEFAULT_TILE_SIZE = 256;
+
+    private TiledMazeGenerator() {}
+
+    public static void generate(MazeGrid grid, int tileSize, String tileAlgorithm, long seed, int parallelism) {
+        generate(grid, tileSize, tileAlgorithm, seed, parallelism, StepListener.NONE, null);
+    }
+
+    /**
+     * Sama dengan generate(...) di atas, plus event CARVE ke listener dan counter ke
+     * stats (boleh null): jumlah edge kandidat semua tile + stitch, dan frontier
+     * terbesar satu tile. Tile dibangun paralel tanpa listener; setelah selesai
+     * event CARVE diputar ulang per tile dari thread pemanggil (StepRing hanya
+     * menerima satu producer).
+     */
+    public static void generate(MazeGrid grid, int tileSize, String tileAlgorithm, long seed, int parallelism,
+                                StepListener listener, GeneratorStats stats) {
+        int cols = grid.cols(), rows = grid.rows();
+        int tilesX = (cols + tileSize - 1) / tileSize;
+        int tilesY = (rows + tileSize - 1) / tileSize;
+
+        // Satu baris tile minimal 64 sel => satu word bit hanya bisa menyentuh dua baris tile bertetangga
+        boolean bandsDisjoint = (long) tileSize * cols >= 64;
+        Object[] bandLocks = new Object[tilesY];
+        Object shared = new Object();
+        for (int ty = 0; ty < tilesY; ty++) bandLocks[ty] = bandsDisjoint ? new Object() : shared;
+
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            for (int phase = 0; phase < 2; phase++) {
+                int parity = phase;
+                IntStream tiles = IntStream.range(0, tilesX * tilesY).filter(t -> (t / tilesX) % 2 == parity);
+                run(pool, tiles, t -> {
+                    int tx = t % tilesX, ty = t / tilesX;
+                    int w = Math.min(tileSize, cols - tx * tileSize);
+                    int h = Math.min(tileSize, rows - ty * tileSize);
+                    PackedGrid tile = new PackedGrid(w, h);
+                    long tileSeed = new FastRandom(seed ^ (0x9E3779B97F4A7C15L * (t + 1))).nextLong();
+                    if (tileAlgorithm.contains("Kruskal")) {
+                        FastMazeGenerator.kruskal(tile, tileSeed, StepListener.NONE, stats);
+                    } else {
+                        FastMazeGenerator.prim(tile, tileSeed, StepListener.NONE, stats);
+                    }
+                    synchronized (bandLocks[ty]) {
+                        copyTile(grid, tile, tx * tileSize, ty * tileSize);
+                    }
+                });
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        int stitchEdges = stitch(grid, tilesX, tilesY, tileSize, seed);
+        if (stats != null) stats.record(stitchEdges, 0);
+        if (listener != StepListener.NONE) replayCarve(grid, tilesX, tilesY, tileSize, listener);
+    }
+
+    private static void run(ForkJoinPool pool, IntStream tasks, IntConsumer task) {
+        try {
+            pool.submit(() -> tasks.parallel().forEach(task)).get();
+        } catch (InterruptedException e) {
+            // Job dibatalkan saat menunggu tile: status interrupt tetap, tile yang antri dibuang di finally
+            Thread.currentThread().interrupt();
+            CancellationException cancelled = new CancellationException("Tiled generation cancelled");
+            cancelled.initCause(e);
+            throw cancelled;
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Tiled generation failed", e.getCause());
+        }
+    }
+
+    private static void copyTile(MazeGrid grid, PackedGrid tile, int x0, int y0) {
+        int cols = grid.cols();
+        for (int ly = 0; ly < tile.rows(); ly++) {
+            for (int lx = 0; lx < tile.cols(); lx++) {
+                int local = ly * tile.cols() + lx;
+                int index = (y0 + ly) * cols + x0 + lx;
+                if (tile.isOpen(local, MazeGrid.RIGHT)) grid.openWall(index, MazeGrid.RIGHT);
+                if (tile.isOpen(local, MazeGrid.BOTTOM)) grid.openWall(index, MazeGrid.BOTTOM);
+            }
+        }
+    }
+
+    /** Kirim CARVE untuk setiap sel, tile demi tile, seperti generator lain yang beranimasi. */
+    private static void replayCarve(MazeGrid grid, int tilesX, int tilesY, int tileSize, StepListener listener) {
+        int cols = grid.cols(), rows = grid.rows();
+        for (int ty = 0; ty < tilesY; ty++) {
+            for (int tx = 0; tx < tilesX; tx++) {
+                Cancellation.check();
+                int x0 = tx * tileSize, y0 = ty * tileSize;
+                for (int y = y0; y < Math.min(rows, y0 + tileSize); y++) {
+                    for (int x = x0; x < Math.min(cols, x0 + tileSize); x++) listener.onStep(StepListener.CARVE, y * cols + x);
+                }
+            }
+        }
+    }
+
+    /**
+     * Kruskal di graph tile: buka satu lorong acak di setiap batas tile yang terpilih.
+     * Mengembalikan jumlah batas tile yang diperiksa.
+     */
+    private static int stitch(MazeGrid grid, int tilesX, int tilesY, int tileSize, long seed) {
+        int cols = grid.cols(), rows = grid.rows();
+        FastRandom rand = new FastRandom(~seed);
+
+        int[] edges = new int[(tilesX - 1) * tilesY + tilesX * (tilesY - 1)];
+        int count = 0;
+        for (int t = 0; t < tilesX * tilesY; t++) {
+            if (t % tilesX < tilesX - 1) edges[count++] = t << 1;
+            if (t / tilesX < tilesY - 1) edges[count++] = (t << 1) | 1;
+        }
+
+        UnionFind tilesSet = new UnionFind(tilesX * tilesY);
+        for (int i = 0; i < count; i++) {
+            int j = i + rand.nextInt(count - i);
+            int edge = edges[j];
+            edges[j] = edges[i];
+            edges[i] = edge;
+
+            int t = edge >>> 1;
+            boolean down = (edge & 1) != 0;
+            if (!tilesSet.union(t, down ? t + tilesX : t + 1)) continue;
+
+            int tx = t % tilesX, ty = t / tilesX;
+            if (down) {
+                int x0 = tx * tileSize, w = Math.min(tileSize, cols - x0);
+                int y = (ty + 1) * tileSize - 1;
+                grid.openWall(grid.index(x0 + rand.nextInt(w), y), MazeGrid.BOTTOM);
+            } else {
+                int y0 = ty * tileSize, h = Math.min(tileSize, rows - y0);
+                int x = (tx + 1) * tileSize - 1;
+                grid.openWall(grid.index(x, y0 + rand.nextInt(h)), MazeGrid.RIGHT);
+            }
+        }
+        return count;
+    }
+}
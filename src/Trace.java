@@ -0,0 +1,251 @@
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Rekaman satu run generator / solver: deretan event StepListener yang bisa
+ * diputar ulang dan di-seek ke langkah mana pun secara instan.
+ *
+ * Event disimpan ringkas sebagai varint: (zigzag(index - indexSebelumnya) << 2) | type.
+ * Solver hampir selalu bergerak ke tetangga (selisih ±1 atau ±cols), jadi satu
+ * event rata-rata 1-2 byte. Setiap keyframeInterval event disimpan keyframe:
+ * bitset sel yang sudah dikunjungi + posisi byte di stream, sehingga
+ * visitedAt(step) cukup menyalin satu keyframe lalu memutar paling banyak
+ * keyframeInterval event. Interval dipilih agar keyframe ~2 byte per event.
+ *
+ * Header menyimpan generator + seed maze tempat trace direkam, supaya trace
+ * yang dimuat dari file bisa diputar di maze yang sama (MazeEngine.generate
+ * reproducible untuk seed yang sama). Keyframe tidak ikut disimpan; dibangun
+ * ulang saat load.
+ */
+public final class Trace {
+    public static final String GENERATE = "generate";
+    public static final String SOLVE = "solve";
+
+    private static final int MAGIC = 0x54524345; // "TRCE"
+    private static final int VERSION = 1;
+
+    public final String kind;          // GENERATE atau SOLVE
+    public final String name;          // Nama algoritma / solver
+    public final int cols, rows;
+    public final String mazeGenerator; // Maze tempat trace direkam
+    public final long mazeSeed;
+    public final int[] path;           // Hasil solver (kosong untuk generate)
+
+    private final byte[] events;
+    private final int eventCount;
+    private final int keyframeInterval;
+    private final long[][] keyVisited; // keyVisited[k] = bitset setelah k * interval event
+    private final int[] keyOffset;     // Posisi byte event ke-(k * interval)
+    private final int[] keyLast;       // Index sel event sebelumnya (basis delta)
+
+    private Trace(String kind, String name, int cols, int rows, String mazeGenerator, long mazeSeed,
+                  byte[] events, int eventCount, int[] path) {
+        this.kind = kind;
+        this.name = name;
+        this.cols = cols;
+        this.rows = rows;
+        this.mazeGenerator = mazeGenerator;
+        this.mazeSeed = mazeSeed;
+        this.events = events;
+        this.eventCount = eventCount;
+        this.path = path;
+
+        int n = cols * rows;
+        this.keyframeInterval = Math.max(1024, n / 16);
+        int keys = eventCount / keyframeInterval + 1;
+        this.keyVisited = new long[keys][];
+        this.keyOffset = new int[keys];
+        this.keyLast = new int[keys];
+
+        long[] visited = new long[(n + 63) >>> 6];
+        Cursor c = new Cursor(0, 0, 0);
+        for (int k = 0; k < keys; k++) {
+            keyVisited[k] = visited.clone();
+            keyOffset[k] = c.offset;
+            keyLast[k] = c.last;
+            int end = Math.min(eventCount, (k + 1) * keyframeInterval);
+            while (c.step < end) {
+                c.next();
+                if (c.index < 0 || c.index >= n) {
+                    throw new IllegalArgumentException("Trace event cell " + c.index + " outside " + cols + "x" + rows);
+                }
+                visited[c.index >>> 6] |= 1L << c.index;
+            }
+        }
+    }
+
+    /** Jumlah event di trace. */
+    public int size() {
+        return eventCount;
+    }
+
+    /** Ukuran stream event (byte), tanpa keyframe. */
+    public int encodedBytes() {
+        return events.length;
+    }
+
+    /** Bitset sel yang sudah dikunjungi / di-carve setelah step event pertama. */
+    public long[] visitedAt(int step) {
+        step = Math.max(0, Math.min(step, eventCount));
+        int k = step / keyframeInterval;
+        long[] visited = keyVisited[k].clone();
+        Cursor c = new Cursor(k * keyframeInterval, keyOffset[k], keyLast[k]);
+        while (c.step < step) {
+            c.next();
+            visited[c.index >>> 6] |= 1L << c.index;
+        }
+        return visited;
+    }
+
+    /** Cursor untuk memutar event mulai dari step tertentu. */
+    public Cursor cursor(int step) {
+        step = Math.max(0, Math.min(step, eventCount));
+        int k = step / keyframeInterval;
+        Cursor c = new Cursor(k * keyframeInterval, keyOffset[k], keyLast[k]);
+        while (c.step < step) c.next();
+        return c;
+    }
+
+    /** Pembaca stream event; type dan index berisi event terakhir yang dibaca next(). */
+    public final class Cursor {
+        private int step, offset, last;
+        public int type, index;
+
+        private Cursor(int step, int offset, int last) {
+            this.step = step;
+            this.offset = offset;
+            this.last = last;
+        }
+
+        public boolean hasNext() {
+            return step < eventCount;
+        }
+
+        /** Step (jumlah event yang sudah dibaca). */
+        public int step() {
+            return step;
+        }
+
+        /** Baca event berikutnya dan kembalikan index selnya. */
+        public int nextIndex() {
+            next();
+            return index;
+        }
+
+        public void next() {
+            long v = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = events[offset++];
+                v |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            type = (int) (v & 3);
+            long zz = v >>> 2;
+            index = last + (int) ((zz >>> 1) ^ -(zz & 1));
+            last = index;
+            step++;
+        }
+    }
+
+    // --- REKAM ---
+
+    /** StepListener yang merekam event; panggil finish() setelah algoritma selesai. */
+    public static final class Recorder implements StepListener {
+        private final String kind, name, mazeGenerator;
+        private final int cols, rows;
+        private final long mazeSeed;
+        private byte[] buf = new byte[4096];
+        private int length, count, last;
+
+        public Recorder(String kind, String name, int cols, int rows, String mazeGenerator, long mazeSeed) {
+            this.kind = kind;
+            this.name = name;
+            this.cols = cols;
+            this.rows = rows;
+            this.mazeGenerator = mazeGenerator;
+            this.mazeSeed = mazeSeed;
+        }
+
+        @Override
+        public void onStep(int type, int index) {
+            int delta = index - last;
+            last = index;
+            long v = ((long) ((delta << 1) ^ (delta >> 31)) & 0xFFFFFFFFL) << 2 | type;
+            if (length + 10 > buf.length) buf = Arrays.copyOf(buf, buf.length * 2);
+            while ((v & ~0x7FL) != 0) {
+                buf[length++] = (byte) (v | 0x80);
+                v >>>= 7;
+            }
+            buf[length++] = (byte) v;
+            count++;
+        }
+
+        /** Selesaikan rekaman; path = hasil solver (atau array kosong untuk generate). */
+        public Trace finish(int[] path) {
+            return new Trace(kind, name, cols, rows, mazeGenerator, mazeSeed, Arrays.copyOf(buf, length), count, path);
+        }
+    }
+
+    // --- FILE ---
+
+    public void save(Path file) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeUTF(kind);
+            out.writeUTF(name);
+            out.writeInt(cols);
+            out.writeInt(rows);
+            out.writeUTF(mazeGenerator);
+            out.writeLong(mazeSeed);
+            out.writeInt(eventCount);
+            out.writeInt(events.length);
+            out.write(events);
+            out.writeInt(path.length);
+            for (int cell : path) out.writeInt(cell);
+        }
+    }
+
+    public static Trace load(Path file) throws IOException {
+        long fileSize = Files.size(file); // Batas atas panjang array, supaya header rusak tidak memicu OOM
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC) throw new IOException("Not a trace file: " + file);
+            int version = in.readInt();
+            if (version != VERSION) throw new IOException("Unsupported trace version " + version + ": " + file);
+            String kind = in.readUTF();
+            String name = in.readUTF();
+            int cols = in.readInt(), rows = in.readInt();
+            String mazeGenerator = in.readUTF();
+            long mazeSeed = in.readLong();
+            int eventCount = in.readInt();
+            int byteCount = in.readInt();
+            // Setiap event minimal satu byte varint
+            if (cols <= 0 || rows <= 0 || (long) cols * rows > Integer.MAX_VALUE || eventCount < 0
+                    || byteCount < 0 || byteCount > fileSize || eventCount > byteCount) {
+                throw new IOException("Corrupt trace header: " + file);
+            }
+            int cells = cols * rows;
+            byte[] events = new byte[byteCount];
+            in.readFully(events);
+            int pathLength = in.readInt();
+            if (pathLength < 0 || pathLength > cells || 4L * pathLength > fileSize) {
+                throw new IOException("Corrupt trace path length " + pathLength + ": " + file);
+            }
+            int[] path = new int[pathLength];
+            for (int i = 0; i < path.length; i++) {
+                path[i] = in.readInt();
+                if (path[i] < 0 || path[i] >= cells) throw new IOException("Corrupt trace path cell " + path[i] + ": " + file);
+            }
+            return new Trace(kind, name, cols, rows, mazeGenerator, mazeSeed, events, eventCount, path);
+        } catch (EOFException e) {
+            throw new IOException("Truncated trace file: " + file, e);
+        } catch (ArrayIndexOutOfBoundsException | IllegalArgumentException e) {
+            throw new IOException("Corrupt trace events: " + file, e);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+import java.util.Arrays;
+
+/**
+ * Index LCA untuk maze sempurna (spanning tree hasil Prim/Kruskal).
+ *
+ * Di maze sempurna jalur antara dua sel selalu unik, jadi setelah satu pass
+ * O(n) (BFS dari sel 0) semua query cukup memakai lowest common ancestor:
+ *   cost(a, b)   = rootCost[a] + rootCost[b] - 2 * rootCost[lca] - cost(a) + cost(lca)
+ *   length(a, b) = depth[a] + depth[b] - 2 * depth[lca]
+ * rootCost[v] = jumlah Terrain.cost dari root sampai v (cost dihitung saat memasuki sel).
+ *
+ * LCA memakai jump pointer skew-binary (satu pointer per sel): O(log n) per
+ * query dengan memori O(n), bukan O(n log n) seperti tabel binary lifting.
+ * Ekstraksi jalur O(panjang jalur). Index immutable, aman dipakai banyak thread.
+ */
+public class TreeIndex {
+    private final MazeGrid grid;
+    private final int[] parent;
+    private final int[] jump;
+    private final int[] depth;
+    private final int[] rootCost;
+
+    private TreeIndex(MazeGrid grid, int[] parent, int[] jump, int[] depth, int[] rootCost) {
+        this.grid = grid;
+        this.parent = parent;
+        this.jump = jump;
+        this.depth = depth;
+        this.rootCost = rootCost;
+    }
+
+    /**
+     * Bangun index, atau kembalikan null jika grid bukan spanning tree
+     * (ada loop atau ada sel yang tidak terhubung).
+     */
+    public static TreeIndex build(MazeGrid grid) {
+        int n = grid.size();
+        int[] parent = new int[n];
+        int[] jump = new int[n];
+        int[] depth = new int[n];
+        int[] rootCost = new int[n];
+        int[] queue = new int[n];
+        Arrays.fill(parent, -2); // -2 = belum dikunjungi
+
+        int head = 0, tail = 0, openWalls = 0;
+        parent[0] = -1;
+        jump[0] = 0;
+        queue[tail++] = 0;
+
+        while (head < tail) {
+            Cancellation.check();
+            int v = queue[head++];
+            for (int dir = 0; dir < 4; dir++) {
+                if (!grid.isOpen(v, dir)) continue;
+                openWalls++;
+                int u = grid.neighbor(v, dir);
+                if (u == parent[v]) continue;
+                if (parent[u] != -2) return null; // Loop: sudah dicapai lewat jalur lain
+                parent[u] = v;
+                depth[u] = depth[v] + 1;
+                rootCost[u] = rootCost[v] + grid.cost(u);
+                // Skew-binary: lompat dua kali lipat jika dua lompatan parent sama panjang
+                int j = jump[v];
+                jump[u] = (v != 0 && depth[v] - depth[j] == depth[j] - depth[jump[j]]) ? jump[j] : v;
+                queue[tail++] = u;
+            }
+        }
+        // Spanning tree: semua sel tercapai dan tepat n - 1 dinding terbuka (tiap dinding dihitung dua kali)
+        if (tail != n || openWalls != 2 * (n - 1)) return null;
+        return new TreeIndex(grid, parent, jump, depth, rootCost);
+    }
+
+    public MazeGrid getGrid() {
+        return grid;
+    }
+
+    public int lca(int a, int b) {
+        if (depth[a] < depth[b]) { int t = a; a = b; b = t; }
+        while (depth[a] > depth[b]) {
+            a = depth[jump[a]] >= depth[b] ? jump[a] : parent[a];
+        }
+        while (a != b) {
+            if (jump[a] != jump[b]) { a = jump[a]; b = jump[b]; }
+            else { a = parent[a]; b = parent[b]; }
+        }
+        return a;
+    }
+
+    /** Total cost terrain jalur unik dari a ke b. */
+    public int cost(int a, int b) {
+        int l = lca(a, b);
+        return rootCost[a] + rootCost[b] - 2 * rootCost[l] - grid.cost(a) + grid.cost(l);
+    }
+
+    /** Jumlah langkah jalur unik dari a ke b. */
+    public int length(int a, int b) {
+        return depth[a] + depth[b] - 2 * depth[lca(a, b)];
+    }
+
+    /** Jalur lengkap a..b, O(panjang jalur). */
+    public int[] path(int a, int b) {
+        int l = lca(a, b);
+        int up = depth[a] - depth[l];
+        int[] path = new int[up + depth[b] - depth[l] + 1];
+        int i = 0;
+        for (int c = a; c != l; c = parent[c]) path[i++] = c;
+        path[i] = l;
+        int j = path.length - 1;
+        for (int c = b; c != l; c = parent[c]) path[j--] = c;
+        return path;
+    }
+
+    public SolveResult solve(int from, int to) {
+        int[] path = path(from, to);
+        return new SolveResult("Tree", path, cost(from, to), 0);
+    }
+}
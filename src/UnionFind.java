@@ -0,0 +1,43 @@
+import java.util.Arrays;
+
+/**
+ * Disjoint set berbasis satu int[]: union-by-size + path halving, tanpa rekursi.
+ *
+ * parent[i] >= 0 menunjuk ke parent; untuk root, parent[i] = -ukuran set.
+ * Kedalaman pohon tetap O(log n) sehingga find iteratif aman untuk grid raksasa
+ * (find rekursif lama bisa StackOverflowError sebelum path compression sempat bekerja).
+ */
+public class UnionFind {
+    private final int[] parent;
+
+    public UnionFind(int n) {
+        parent = new int[n];
+        Arrays.fill(parent, -1);
+    }
+
+    /** Kembalikan ke n set tunggal tanpa alokasi baru. */
+    public void reset() {
+        Arrays.fill(parent, -1);
+    }
+
+    public int find(int i) {
+        while (parent[i] >= 0) {
+            int p = parent[i];
+            int grand = parent[p];
+            if (grand < 0) return p;
+            parent[i] = grand; // Path halving: lompati satu generasi
+            i = grand;
+        }
+        return i;
+    }
+
+    /** Gabungkan set i dan j; false jika sudah satu set. */
+    public boolean union(int i, int j) {
+        int a = find(i), b = find(j);
+        if (a == b) return false;
+        if (parent[a] > parent[b]) { int t = a; a = b; b = t; } // a = set yang lebih besar
+        parent[a] += parent[b];
+        parent[b] = a;
+        return true;
+    }
+}
@@ -1,10 +1,10 @@
 public class Wall {
-    public Cell cell1, cell2;
-    public String direction;
+    public int cell1, cell2; // Index sel di kedua sisi dinding
+    public int direction;    // Arah dari cell1 ke cell2 (MazeGrid.TOP/RIGHT/BOTTOM/LEFT)
 
-    public Wall(Cell c1, Cell c2, String dir) {
+    public Wall(int c1, int c2, int dir) {
         this.cell1 = c1;
         this.cell2 = c2;
         this.direction = dir;
     }
-}
\ No newline at end of file
+}
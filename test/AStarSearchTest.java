@@ -0,0 +1,13 @@
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/** HeapA* (heap dengan decrease-key, workspace dipakai ulang) harus sama dengan A* dan Dijkstra klasik. */
+class AStarSearchTest {
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 60})
+    void matchesClassicDijkstra(int extraLoops) {
+        MazeEngine engine = TestMazes.maze(11, extraLoops);
+        TestMazes.assertMatchesClassicSolvers(engine, 5, "A*", "HeapA*");
+    }
+}
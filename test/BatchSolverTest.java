@@ -0,0 +1,42 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+/** BatchSolver paralel harus memberi hasil yang sama dengan solve berurutan. */
+class BatchSolverTest {
+    @Test
+    void matchesSequentialDijkstra() {
+        MazeEngine engine = TestMazes.maze(3, 40);
+        MazeGrid grid = engine.getGrid();
+        Random rand = new Random(9);
+        int[] starts = new int[200], exits = new int[200];
+        for (int i = 0; i < starts.length; i++) {
+            starts[i] = rand.nextInt(grid.size());
+            exits[i] = rand.nextInt(grid.size());
+        }
+        try (BatchSolver batch = new BatchSolver(grid, "ALT", 4)) {
+            for (String solver : new String[] {"Dijkstra", "HeapA*", "CorridorA*", "BiA*", "Tree"}) {
+                SolveResult[] results = batch.solveAll(solver, starts, exits);
+                for (int i = 0; i < starts.length; i++) {
+                    SolveResult expected = engine.solve("Dijkstra", starts[i], exits[i], StepListener.NONE);
+                    assertEquals(expected.cost, results[i].cost, solver + " pair " + i);
+                    TestMazes.assertValidPath(grid, results[i], starts[i], exits[i]);
+                }
+            }
+        }
+    }
+
+    @Test
+    void workersShareCachesPreparedAfterTheyWereCreated() {
+        MazeEngine prototype = TestMazes.maze(4, 0);
+        MazeEngine worker = prototype.forWorker(); // Dibuat sebelum graph koridor dan index LCA ada
+        prototype.prepare("CorridorA*");
+        prototype.prepare("Tree");
+        worker.shareCachesFrom(prototype);
+        assertSame(prototype.getCorridorGraph(), worker.getCorridorGraph());
+        assertSame(prototype.getTreeIndex(), worker.getTreeIndex());
+        assertSame(prototype.getHeuristic(), worker.getHeuristic());
+    }
+}
@@ -0,0 +1,13 @@
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/** Pencarian dua arah harus menemukan jalur sepanjang BFS / semurah Dijkstra klasik. */
+class BidirectionalSearchTest {
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 60})
+    void matchesClassicSolvers(int extraLoops) {
+        MazeEngine engine = TestMazes.maze(11, extraLoops);
+        TestMazes.assertMatchesClassicSolvers(engine, 5, "BiBFS", "BiDijkstra", "BiA*");
+    }
+}
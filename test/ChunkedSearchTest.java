@@ -0,0 +1,51 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Random;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * ChunkedSearch di atas ChunkedGrid (cache kecil, jadi chunk terus di-evict)
+ * harus menemukan jalur yang sama baiknya dengan solver klasik di grid in-memory.
+ */
+class ChunkedSearchTest {
+    @TempDir
+    Path tmp;
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 60})
+    void matchesClassicSolvers(int extraLoops) throws IOException {
+        MazeEngine engine = TestMazes.maze(17, extraLoops);
+        MazeGrid grid = engine.getGrid();
+        try (ChunkedGrid chunked = ChunkedGrid.create(tmp.resolve("maze.chunks"), TestMazes.COLS, TestMazes.ROWS, 2)) {
+            for (int i = 0; i < grid.size(); i++) {
+                if (grid.isOpen(i, MazeGrid.RIGHT)) chunked.openWall(i, MazeGrid.RIGHT);
+                if (grid.isOpen(i, MazeGrid.BOTTOM)) chunked.openWall(i, MazeGrid.BOTTOM);
+                chunked.setTerrain(i, grid.getTerrain(i));
+            }
+            ChunkedSearch search = new ChunkedSearch(chunked, grid.size());
+            Random rand = new Random(13);
+            for (int q = 0; q < TestMazes.QUERIES; q++) {
+                int from = rand.nextInt(grid.size()), to = rand.nextInt(grid.size());
+                SolveResult dijkstra = engine.solve("Dijkstra", from, to, StepListener.NONE);
+                SolveResult bfs = engine.solve("BFS", from, to, StepListener.NONE);
+                for (String mode : new String[] {"BFS", "Dijkstra", "A*"}) {
+                    ChunkedSearch.Result result = search.solve(mode, from, to);
+                    String label = "Chunked" + mode + " " + from + " -> " + to;
+                    assertFalse(result.budgetExceeded, label);
+                    assertEquals(from, result.path[0], label);
+                    assertEquals(to, result.path[result.path.length - 1], label);
+                    if (mode.equals("BFS")) {
+                        assertEquals(bfs.path.length, result.path.length, label);
+                    } else {
+                        assertEquals(dijkstra.cost, result.cost, label);
+                    }
+                }
+            }
+        }
+    }
+}
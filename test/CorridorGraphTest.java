@@ -0,0 +1,16 @@
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Solver di graph koridor harus sama dengan solver klasik di grid penuh, baik di
+ * maze sempurna maupun di maze dengan loop (banyak junction di tengah koridor).
+ */
+class CorridorGraphTest {
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 60})
+    void corridorSolversMatchClassicSolvers(int extraLoops) {
+        MazeEngine engine = TestMazes.maze(11, extraLoops);
+        TestMazes.assertMatchesClassicSolvers(engine, 5, "CorridorBFS", "CorridorDijkstra", "CorridorA*");
+    }
+}
@@ -0,0 +1,16 @@
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Dial harus menemukan cost yang sama dengan Dijkstra klasik. Semua query memakai
+ * satu DialDijkstra milik engine, jadi reset stamp antar query ikut teruji.
+ */
+class DialDijkstraTest {
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 60})
+    void matchesClassicDijkstra(int extraLoops) {
+        MazeEngine engine = TestMazes.maze(11, extraLoops);
+        TestMazes.assertMatchesClassicSolvers(engine, 5, "Dial");
+    }
+}
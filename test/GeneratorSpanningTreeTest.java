@@ -0,0 +1,103 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+/**
+ * Setiap generator harus menghasilkan maze sempurna: tepat n - 1 dinding terbuka
+ * dan semua sel terhubung, yaitu spanning tree dari grid.
+ */
+class GeneratorSpanningTreeTest {
+
+    @ParameterizedTest
+    @CsvSource({"1, 1", "1, 17", "23, 1", "2, 2", "31, 19", "64, 40", "300, 260"})
+    void everyGeneratorBuildsASpanningTree(int cols, int rows) {
+        for (String generator : MazeEngine.GENERATORS) {
+            for (long seed = 1; seed <= 3; seed++) {
+                MazeEngine engine = new MazeEngine(new PackedGrid(cols, rows));
+                engine.generate(generator, seed, StepListener.NONE);
+                assertSpanningTree(engine.getGrid(), generator + " " + cols + "x" + rows + " seed " + seed);
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @CsvSource({"FastPrim, 7", "FastKruskal, 7", "FastPrim, 16", "FastKruskal, 33"})
+    void tiledGeneratorStitchesUnevenTiles(String tileAlgorithm, int tileSize) {
+        PackedGrid grid = new PackedGrid(101, 75);
+        TiledMazeGenerator.generate(grid, tileSize, tileAlgorithm, 42, 3);
+        assertSpanningTree(grid, "Tiled " + tileAlgorithm + " tile " + tileSize);
+    }
+
+    @Test
+    void tiledGeneratorIsIndependentOfThreadCountAndReportsEveryCell() {
+        PackedGrid single = new PackedGrid(150, 70);
+        TiledMazeGenerator.generate(single, 16, "FastPrim", 7, 1);
+        PackedGrid parallel = new PackedGrid(150, 70);
+        int[] carved = new int[parallel.size()];
+        TiledMazeGenerator.generate(parallel, 16, "FastPrim", 7, 4, (type, index) -> carved[index]++, null);
+        for (int i = 0; i < single.size(); i++) {
+            for (int dir = 0; dir < 4; dir++) assertEquals(single.isOpen(i, dir), parallel.isOpen(i, dir), "cell " + i);
+            assertEquals(1, carved[i], "CARVE events for cell " + i);
+        }
+    }
+
+    @Test
+    void ellerStreamsASpanningTreeWithReusedRowState() {
+        PackedGrid grid = new PackedGrid(129, 90);
+        EllerGenerator eller = new EllerGenerator(grid.cols(), 8);
+        eller.setTerrainWeights(0, 0, 1, 0);
+        eller.generate(grid.rows(), RowSink.into(grid, StepListener.NONE));
+        assertSpanningTree(grid, "Eller");
+        for (int i = 0; i < grid.size(); i++) assertEquals(Terrain.MUD, grid.getTerrain(i));
+    }
+
+    @Test
+    void engineEllerMatchesStreamedRows() {
+        MazeEngine engine = new MazeEngine(new PackedGrid(77, 41));
+        engine.setTerrainWeights(10, 20, 30, 40);
+        engine.generate("Eller", 5, StepListener.NONE);
+
+        PackedGrid streamed = new PackedGrid(77, 41);
+        EllerGenerator eller = new EllerGenerator(streamed.cols(), new Random(5).nextLong());
+        eller.setTerrainWeights(10, 20, 30, 40);
+        eller.generate(streamed.rows(), RowSink.into(streamed, StepListener.NONE));
+
+        MazeGrid grid = engine.getGrid();
+        for (int i = 0; i < grid.size(); i++) {
+            for (int dir = 0; dir < 4; dir++) assertEquals(streamed.isOpen(i, dir), grid.isOpen(i, dir), "cell " + i);
+            // Exit selalu dijadikan DIRT oleh setupStartAndExit
+            if (i != engine.getEndCell()) assertEquals(streamed.getTerrain(i), grid.getTerrain(i), "cell " + i);
+        }
+    }
+
+    private static void assertSpanningTree(MazeGrid grid, String label) {
+        int n = grid.size();
+        long open = 0;
+        for (int i = 0; i < n; i++) {
+            if (grid.isOpen(i, MazeGrid.RIGHT)) open++;
+            if (grid.isOpen(i, MazeGrid.BOTTOM)) open++;
+        }
+        assertEquals(n - 1, open, label + ": open walls");
+
+        boolean[] seen = new boolean[n];
+        int[] stack = new int[n];
+        int top = 0, reached = 1;
+        seen[0] = true;
+        stack[top++] = 0;
+        while (top > 0) {
+            int cell = stack[--top];
+            for (int dir = 0; dir < 4; dir++) {
+                if (!grid.isOpen(cell, dir)) continue;
+                int next = grid.neighbor(cell, dir);
+                if (seen[next]) continue;
+                seen[next] = true;
+                reached++;
+                stack[top++] = next;
+            }
+        }
+        assertEquals(n, reached, label + ": reachable cells");
+    }
+}
@@ -0,0 +1,53 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * A* dengan heuristic admissible (Zero, Scaled, ALT) harus menemukan cost optimal
+ * dan estimasinya tidak pernah melebihi cost sebenarnya. Manhattan tidak admissible
+ * (DIRT cost 0), jadi untuknya hanya dicek jalur valid dengan cost >= optimal.
+ */
+class HeuristicTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {"Zero", "Scaled", "ALT"})
+    void admissibleHeuristicsKeepAStarOptimal(String heuristic) {
+        for (int extraLoops : new int[] {0, 60}) {
+            MazeEngine engine = TestMazes.maze(11, extraLoops);
+            engine.setHeuristic(heuristic);
+            TestMazes.assertMatchesClassicSolvers(engine, 5, "A*", "HeapA*");
+
+            Heuristic h = engine.getHeuristic();
+            Random rand = new Random(7);
+            for (int q = 0; q < TestMazes.QUERIES; q++) {
+                int from = rand.nextInt(engine.getGrid().size()), to = rand.nextInt(engine.getGrid().size());
+                int cost = engine.solve("Dijkstra", from, to, StepListener.NONE).cost;
+                assertTrue(h.estimate(from, to) <= cost, heuristic + " overestimates " + from + " -> " + to);
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 60})
+    void manhattanFindsAValidPathNoCheaperThanDijkstra(int extraLoops) {
+        MazeEngine engine = TestMazes.maze(11, extraLoops);
+        engine.setHeuristic("Manhattan");
+        MazeGrid grid = engine.getGrid();
+        Random rand = new Random(5);
+        for (int q = 0; q < TestMazes.QUERIES; q++) {
+            int from = rand.nextInt(grid.size()), to = rand.nextInt(grid.size());
+            int optimal = engine.solve("Dijkstra", from, to, StepListener.NONE).cost;
+            for (String solver : new String[] {"A*", "HeapA*"}) {
+                SolveResult result = engine.solve(solver, from, to, StepListener.NONE);
+                TestMazes.assertValidPath(grid, result, from, to);
+                String label = solver + " (Manhattan) " + from + " -> " + to;
+                // Di maze sempurna jalurnya unik, jadi heuristic apa pun tetap optimal
+                if (extraLoops == 0) assertEquals(optimal, result.cost, label);
+                else assertTrue(result.cost >= optimal, label);
+            }
+        }
+    }
+}
@@ -0,0 +1,75 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+
+/**
+ * Maze dan assertion bersama untuk uji solver. Setiap solver dibandingkan dengan
+ * solver klasik pada pasangan (start, exit) acak:
+ *
+ * - Solver BFS (nama berakhiran "BFS") harus menemukan jumlah langkah yang sama dengan BFS.
+ * - Solver lain harus menemukan cost yang sama dengan Dijkstra.
+ * - Semua jalur harus valid: sel bertetangga lewat dinding terbuka, cost = jumlah
+ *   cost sel yang dimasuki.
+ */
+final class TestMazes {
+    static final int COLS = 48, ROWS = 32, QUERIES = 40;
+
+    private TestMazes() {
+    }
+
+    /** Maze sempurna Prim's, ditambah extraLoops dinding acak yang dibuka supaya ada loop. */
+    static MazeEngine maze(long seed, int extraLoops) {
+        MazeEngine engine = new MazeEngine(new PackedGrid(COLS, ROWS));
+        engine.generate("Prim's", seed, StepListener.NONE);
+        MazeGrid grid = engine.getGrid();
+        Random rand = new Random(seed);
+        for (int i = 0; i < extraLoops; i++) {
+            int cell = rand.nextInt(grid.size());
+            int dir = rand.nextBoolean() ? MazeGrid.RIGHT : MazeGrid.BOTTOM;
+            if (grid.neighbor(cell, dir) >= 0) grid.openWall(cell, dir);
+        }
+        engine.mazeChanged();
+        return engine;
+    }
+
+    /** Jalankan QUERIES pasangan acak (dari querySeed) dan bandingkan solvers dengan BFS / Dijkstra. */
+    static void assertMatchesClassicSolvers(MazeEngine engine, long querySeed, String... solvers) {
+        MazeGrid grid = engine.getGrid();
+        Random rand = new Random(querySeed);
+        for (int q = 0; q < QUERIES; q++) {
+            int from = rand.nextInt(grid.size()), to = rand.nextInt(grid.size());
+            SolveResult dijkstra = engine.solve("Dijkstra", from, to, StepListener.NONE);
+            SolveResult bfs = engine.solve("BFS", from, to, StepListener.NONE);
+            assertValidPath(grid, dijkstra, from, to);
+            for (String solver : solvers) {
+                SolveResult result = engine.solve(solver, from, to, StepListener.NONE);
+                String label = solver + " " + from + " -> " + to;
+                assertValidPath(grid, result, from, to);
+                if (solver.endsWith("BFS")) {
+                    assertEquals(bfs.path.length, result.path.length, label);
+                } else {
+                    assertEquals(dijkstra.cost, result.cost, label);
+                }
+            }
+        }
+    }
+
+    static void assertValidPath(MazeGrid grid, SolveResult result, int from, int to) {
+        String label = result.solver + " " + from + " -> " + to;
+        assertTrue(result.path.length > 0, label + " found no path");
+        assertEquals(from, result.path[0], label);
+        assertEquals(to, result.path[result.path.length - 1], label);
+        int cost = 0;
+        for (int i = 1; i < result.path.length; i++) {
+            int a = result.path[i - 1], b = result.path[i];
+            boolean linked = false;
+            for (int dir = 0; dir < 4; dir++) {
+                if (grid.neighbor(a, dir) == b && grid.isOpen(a, dir)) linked = true;
+            }
+            assertTrue(linked, label + " jumps from " + a + " to " + b);
+            cost += grid.cost(b);
+        }
+        assertEquals(cost, result.cost, label + " cost");
+    }
+}
@@ -0,0 +1,25 @@
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Query LCA di maze sempurna harus sama dengan Dijkstra; maze dengan loop tidak
+ * punya TreeIndex dan "Tree" jatuh ke Dial.
+ */
+class TreeIndexTest {
+
+    @Test
+    void perfectMazeQueriesMatchDijkstra() {
+        MazeEngine engine = TestMazes.maze(11, 0);
+        assertNotNull(engine.getTreeIndex());
+        TestMazes.assertMatchesClassicSolvers(engine, 5, "Tree");
+    }
+
+    @Test
+    void mazeWithLoopsFallsBackToDial() {
+        MazeEngine engine = TestMazes.maze(11, 60);
+        assertNull(engine.getTreeIndex());
+        TestMazes.assertMatchesClassicSolvers(engine, 5, "Tree");
+    }
+}